@@ -0,0 +1,63 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.benchmark.StubDriver;
+import com.codeborne.selenide.benchmark.StubWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementsCollectionBenchmark {
+  @Param({"10", "100"})
+  private int size;
+
+  private ElementsCollection collection;
+
+  @Setup
+  public void setUp() {
+    collection = new ElementsCollection(new StubDriver(new SelenideConfig(), new StubWebDriver(size)), ".row");
+  }
+
+  @Benchmark
+  public int filterBySize() {
+    return collection.filterBy(visible).size();
+  }
+
+  @Benchmark
+  public List<String> filterByTextAndGetTexts() {
+    return collection.filterBy(text("element #1")).texts();
+  }
+
+  @Benchmark
+  public String excludeAndGetFirst() {
+    return collection.excludeWith(text("element #0")).first().getText();
+  }
+
+  @Benchmark
+  public int iterateAndGetTexts() {
+    int length = 0;
+    for (SelenideElement element : collection) {
+      length += element.getText().length();
+    }
+    return length;
+  }
+}
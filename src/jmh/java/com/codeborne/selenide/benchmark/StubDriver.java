@@ -0,0 +1,59 @@
+package com.codeborne.selenide.benchmark;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Driver which doesn't open any browser. Used to measure Selenide's own overhead.
+ */
+public class StubDriver implements Driver {
+  private final Config config;
+  private final Browser browser = new Browser("chrome", false);
+  private final WebDriver webDriver;
+
+  public StubDriver() {
+    this(new SelenideConfig());
+  }
+
+  public StubDriver(Config config) {
+    this(config, new StubWebDriver());
+  }
+
+  public StubDriver(Config config, WebDriver webDriver) {
+    this.config = config;
+    this.webDriver = webDriver;
+  }
+
+  @Override
+  public Config config() {
+    return config;
+  }
+
+  @Override
+  public Browser browser() {
+    return browser;
+  }
+
+  @Override
+  public WebDriver getWebDriver() {
+    return webDriver;
+  }
+
+  @Override
+  public SelenideProxyServer getProxy() {
+    return null;
+  }
+
+  @Override
+  public WebDriver getAndCheckWebDriver() {
+    return webDriver;
+  }
+
+  @Override
+  public void close() {
+  }
+}
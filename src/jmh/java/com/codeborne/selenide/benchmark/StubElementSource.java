@@ -0,0 +1,30 @@
+package com.codeborne.selenide.benchmark;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.openqa.selenium.WebElement;
+
+public class StubElementSource extends WebElementSource {
+  private final Driver driver;
+  private final WebElement element;
+
+  public StubElementSource(Driver driver, WebElement element) {
+    this.driver = driver;
+    this.element = element;
+  }
+
+  @Override
+  public Driver driver() {
+    return driver;
+  }
+
+  @Override
+  public WebElement getWebElement() {
+    return element;
+  }
+
+  @Override
+  public String getSearchCriteria() {
+    return element.toString();
+  }
+}
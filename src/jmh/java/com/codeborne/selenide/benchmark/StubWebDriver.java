@@ -0,0 +1,119 @@
+package com.codeborne.selenide.benchmark;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+
+/**
+ * WebDriver which answers instantly: every search returns {@link #elementsCount} stub elements.
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+  private final List<WebElement> elements;
+  private final byte[] screenshot;
+
+  public StubWebDriver() {
+    this(10);
+  }
+
+  public StubWebDriver(int elementsCount) {
+    this(elementsCount, new byte[0]);
+  }
+
+  public StubWebDriver(int elementsCount, byte[] screenshot) {
+    elements = new ArrayList<>(elementsCount);
+    for (int i = 0; i < elementsCount; i++) {
+      elements.add(new StubWebElement("div", "element #" + i));
+    }
+    this.screenshot = screenshot;
+  }
+
+  public int elementsCount() {
+    return elements.size();
+  }
+
+  @Override
+  public void get(String url) {
+  }
+
+  @Override
+  public String getCurrentUrl() {
+    return "http://localhost/stub";
+  }
+
+  @Override
+  public String getTitle() {
+    return "stub";
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    return elements;
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    return elements.get(0);
+  }
+
+  @Override
+  public String getPageSource() {
+    return "<html><body>stub</body></html>";
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public void quit() {
+  }
+
+  @Override
+  public Set<String> getWindowHandles() {
+    return singleton(getWindowHandle());
+  }
+
+  @Override
+  public String getWindowHandle() {
+    return "stub";
+  }
+
+  @Override
+  public TargetLocator switchTo() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Navigation navigate() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Options manage() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Object executeScript(String script, Object... args) {
+    return null;
+  }
+
+  @Override
+  public Object executeAsyncScript(String script, Object... args) {
+    return null;
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) {
+    return target.convertFromPngBytes(screenshot);
+  }
+}
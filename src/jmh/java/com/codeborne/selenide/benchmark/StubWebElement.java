@@ -0,0 +1,108 @@
+package com.codeborne.selenide.benchmark;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+public class StubWebElement implements WebElement {
+  private final String tagName;
+  private final String text;
+
+  public StubWebElement(String tagName, String text) {
+    this.tagName = tagName;
+    this.text = text;
+  }
+
+  @Override
+  public void click() {
+  }
+
+  @Override
+  public void submit() {
+  }
+
+  @Override
+  public void sendKeys(CharSequence... keysToSend) {
+  }
+
+  @Override
+  public void clear() {
+  }
+
+  @Override
+  public String getTagName() {
+    return tagName;
+  }
+
+  @Override
+  public String getAttribute(String name) {
+    return "value".equals(name) ? text : null;
+  }
+
+  @Override
+  public boolean isSelected() {
+    return false;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  @Override
+  public List<WebElement> findElements(By by) {
+    return singletonList(this);
+  }
+
+  @Override
+  public WebElement findElement(By by) {
+    return this;
+  }
+
+  @Override
+  public boolean isDisplayed() {
+    return true;
+  }
+
+  @Override
+  public Point getLocation() {
+    return new Point(10, 20);
+  }
+
+  @Override
+  public Dimension getSize() {
+    return new Dimension(100, 30);
+  }
+
+  @Override
+  public Rectangle getRect() {
+    return new Rectangle(getLocation(), getSize());
+  }
+
+  @Override
+  public String getCssValue(String propertyName) {
+    return "";
+  }
+
+  @Override
+  public <X> X getScreenshotAs(OutputType<X> target) {
+    return target.convertFromPngBytes(new byte[0]);
+  }
+
+  @Override
+  public String toString() {
+    return "<" + tagName + ">" + text + "</" + tagName + ">";
+  }
+}
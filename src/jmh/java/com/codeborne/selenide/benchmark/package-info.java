@@ -0,0 +1,4 @@
+/**
+ * Stubs for measuring Selenide overhead with JMH - without real browser.
+ */
+package com.codeborne.selenide.benchmark;
@@ -0,0 +1,60 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.benchmark.StubDriver;
+import com.codeborne.selenide.benchmark.StubElementSource;
+import com.codeborne.selenide.benchmark.StubWebElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import com.codeborne.selenide.impl.WebElementWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.Condition.visible;
+
+/**
+ * Cost of looking up and executing a command, without proxy and logging.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandsBenchmark {
+  private final Object[] visibleArgs = {new Condition[]{visible}};
+  private SelenideElement element;
+  private WebElementSource source;
+
+  @Setup
+  public void setUp() {
+    source = new StubElementSource(new StubDriver(), new StubWebElement("input", "john"));
+    element = WebElementWrapper.wrap(source.driver(), source.getWebElement());
+  }
+
+  @Benchmark
+  public Object getText() throws IOException {
+    return Commands.getInstance().execute(element, source, "getText", null);
+  }
+
+  @Benchmark
+  public Object getValue() throws IOException {
+    return Commands.getInstance().execute(element, source, "getValue", null);
+  }
+
+  @Benchmark
+  public Object shouldBeVisible() throws IOException {
+    return Commands.getInstance().execute(element, source, "shouldBe", visibleArgs);
+  }
+}
@@ -0,0 +1,42 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Selectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DescribeBenchmark {
+  private final By css = By.cssSelector("#login .form input[name=username]");
+  private final By xpath = By.xpath("//div[@id='login']//input[1]");
+  private final By text = Selectors.byText("Log in");
+
+  @Benchmark
+  public String cssSelector() {
+    return Describe.selector(css);
+  }
+
+  @Benchmark
+  public String xpath() {
+    return Describe.selector(xpath);
+  }
+
+  @Benchmark
+  public String byText() {
+    return Describe.selector(text);
+  }
+}
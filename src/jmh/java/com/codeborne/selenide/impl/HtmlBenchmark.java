@@ -0,0 +1,46 @@
+package com.codeborne.selenide.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text matching used by {@code text}, {@code exactText}, {@code matchText} etc. conditions
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlBenchmark {
+  private final String text = "  Hello,\n\t dear   user! Welcome to the   <b>Selenide</b> \r\n test page  ";
+
+  @Benchmark
+  public String reduceSpaces() {
+    return Html.text.reduceSpaces(text);
+  }
+
+  @Benchmark
+  public boolean contains() {
+    return Html.text.contains(text, "Welcome  to THE");
+  }
+
+  @Benchmark
+  public boolean equals() {
+    return Html.text.equals(text, "hello, dear user! welcome to the <b>selenide</b> test page");
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return Html.text.matches(text, "dear\\s+user");
+  }
+}
@@ -0,0 +1,67 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.benchmark.StubDriver;
+import com.codeborne.selenide.benchmark.StubWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of saving screenshot and page source to reports folder (as done after every failed check)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScreenShotLaboratoryBenchmark {
+  private final ScreenShotLaboratory screenshots = new ScreenShotLaboratory();
+  private Path reportsFolder;
+  private Driver driver;
+  private int counter;
+
+  @Setup
+  public void setUp() throws IOException {
+    reportsFolder = Files.createTempDirectory("selenide-jmh");
+    byte[] png = new byte[200 * 1024];
+    new Random(42).nextBytes(png);
+    driver = new StubDriver(new SelenideConfig().reportsFolder(reportsFolder.toString()), new StubWebDriver(1, png));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(reportsFolder)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public String takeScreenShot() {
+    return screenshots.takeScreenShot(driver, "screenshot-" + counter++);
+  }
+
+  @Benchmark
+  public File writePageSource() {
+    return screenshots.savePageSourceToFile(driver.config(), "page-" + counter++, driver.getWebDriver());
+  }
+}
@@ -0,0 +1,72 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.benchmark.StubDriver;
+import com.codeborne.selenide.commands.Commands;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating and calling SelenideElement via {@link Proxy#newProxyInstance}
+ * with the cached proxy constructor used by {@link SelenideElementProxy#wrap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelenideElementProxyBenchmark {
+  private final By criteria = By.id("login");
+  private Driver driver;
+  private ElementFinder source;
+  private SelenideElement element;
+
+  @Setup
+  public void setUp() {
+    driver = new StubDriver();
+    source = new ElementFinder(driver, null, criteria, 0);
+    element = SelenideElementProxy.wrap(SelenideElement.class, source);
+  }
+
+  @Benchmark
+  public SelenideElement createViaNewProxyInstance() {
+    return (SelenideElement) Proxy.newProxyInstance(
+        Thread.currentThread().getContextClassLoader(), new Class<?>[]{SelenideElement.class},
+        new SelenideElementProxy(new ElementFinder(driver, null, criteria, 0)));
+  }
+
+  @Benchmark
+  public SelenideElement createViaCachedConstructor() {
+    return SelenideElementProxy.wrap(SelenideElement.class, new ElementFinder(driver, null, criteria, 0));
+  }
+
+  @Benchmark
+  public String getTextViaProxy() {
+    return element.getText();
+  }
+
+  @Benchmark
+  public Object getTextViaCommand() throws IOException {
+    return Commands.getInstance().execute(element, source, "getText", null);
+  }
+
+  @Benchmark
+  public boolean isDisplayedViaProxy() {
+    return element.isDisplayed();
+  }
+}
@@ -0,0 +1,74 @@
+package com.codeborne.selenide.logevents;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+
+/**
+ * Overhead of logging every Selenide step - with and without listeners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelenideLoggerBenchmark {
+  private final Object[] args = {"john.smith@example.com"};
+
+  @Setup
+  public void setUp() {
+    SelenideLogger.removeAllListeners();
+  }
+
+  @TearDown
+  public void tearDown() {
+    SelenideLogger.removeAllListeners();
+  }
+
+  @Benchmark
+  public String readableMethodName() {
+    return SelenideLogger.readableMethodName("shouldHaveExactText");
+  }
+
+  @Benchmark
+  public SelenideLog stepWithoutListeners() {
+    SelenideLog log = SelenideLogger.beginStep("#login input[name=username]", "setValue", args);
+    SelenideLogger.commitStep(log, PASS);
+    return log;
+  }
+
+  @Benchmark
+  public SelenideLog stepWithListener(ListenerState listener) {
+    SelenideLog log = SelenideLogger.beginStep("#login input[name=username]", "setValue", args);
+    SelenideLogger.commitStep(log, PASS);
+    return log;
+  }
+
+  @State(Scope.Thread)
+  public static class ListenerState {
+    private int events;
+
+    @Setup
+    public void addListener() {
+      SelenideLogger.addListener("benchmark", currentLog -> events++);
+    }
+
+    @TearDown
+    public void removeListener() {
+      SelenideLogger.removeListener("benchmark");
+    }
+  }
+}
@@ -20,6 +20,16 @@ public abstract class CollectionCondition implements Predicate<List<WebElement>>
 
   public abstract void fail(WebElementsCollection collection, List<WebElement> elements, Exception lastError, long timeoutMs);
 
+  /**
+   * Check if given collection elements match this condition.
+   *
+   * By default it's the same as {@link #apply(Object)}, but conditions may override it
+   * if they can check all elements faster using the driver (e.g. by a single JavaScript call).
+   */
+  public boolean apply(Driver driver, List<WebElement> elements) {
+    return apply(elements);
+  }
+
   public static CollectionCondition empty = size(0);
 
   /**
@@ -1,11 +1,13 @@
 package com.codeborne.selenide;
 
 import com.codeborne.selenide.conditions.Text;
+import com.codeborne.selenide.impl.ConditionCompiler;
 import com.codeborne.selenide.impl.Describe;
 import com.codeborne.selenide.impl.Html;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import static com.codeborne.selenide.impl.ConditionCompiler.quote;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 
 /**
@@ -22,6 +24,11 @@ public abstract class Condition {
     public boolean apply(Driver driver, WebElement element) {
       return element.isDisplayed();
     }
+
+    @Override
+    public String toJavaScript() {
+      return "visible(e)";
+    }
   };
 
   /**
@@ -40,6 +47,11 @@ public abstract class Condition {
         return false;
       }
     }
+
+    @Override
+    public String toJavaScript() {
+      return "true";
+    }
   };
 
   /**
@@ -59,6 +71,11 @@ public abstract class Condition {
         return true;
       }
     }
+
+    @Override
+    public String toJavaScript() {
+      return "!visible(e)";
+    }
   };
 
   /**
@@ -113,6 +130,11 @@ public abstract class Condition {
         return element.getAttribute(attributeName) != null;
       }
 
+      @Override
+      public String toJavaScript() {
+        return attributeToJavaScript(attributeName, "attr(e, " + quote(attributeName) + ") != null");
+      }
+
       @Override
       public String toString() {
         return name + " " + attributeName;
@@ -133,6 +155,12 @@ public abstract class Condition {
         return expectedAttributeValue.equals(getAttributeValue(element, attributeName));
       }
 
+      @Override
+      public String toJavaScript() {
+        return attributeToJavaScript(attributeName,
+          "(attr(e, " + quote(attributeName) + ") || '') == " + quote(expectedAttributeValue));
+      }
+
       @Override
       public String toString() {
         return name + " " + attributeName + '=' + expectedAttributeValue;
@@ -145,6 +173,13 @@ public abstract class Condition {
     return attr == null ? "" : attr;
   }
 
+  /**
+   * Selenium returns attribute "style" in browser-specific format, so it's checked only in Java
+   */
+  private static String attributeToJavaScript(String attributeName, String expression) {
+    return "style".equalsIgnoreCase(attributeName) ? null : expression;
+  }
+
   /**
    * Assert that element has given "value" attribute as substring
    * NB! Ignores difference in non-visible characters like spaces, non-breakable spaces, tabs, newlines  etc.
@@ -154,10 +189,16 @@ public abstract class Condition {
    * @param expectedValue expected value of "value" attribute
    */
   public static Condition value(final String expectedValue) {
+    String expectedText = Html.text.reduceSpaces(expectedValue);
     return new Condition("value") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
-        return Html.text.contains(getAttributeValue(element, "value"), expectedValue);
+        return Html.text.contains(getAttributeValue(element, "value"), expectedText);
+      }
+
+      @Override
+      public String toJavaScript() {
+        return "contains(attr(e, 'value'), " + quote(expectedText) + ")";
       }
 
       @Override
@@ -296,10 +337,16 @@ public abstract class Condition {
    * @param text expected text of HTML element
    */
   public static Condition textCaseSensitive(final String text) {
+    String expectedText = Html.text.reduceSpaces(text);
     return new Condition("textCaseSensitive") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
-        return Html.text.containsCaseSensitive(element.getText(), text);
+        return Html.text.containsCaseSensitive(element.getText(), expectedText);
+      }
+
+      @Override
+      public String toJavaScript() {
+        return "norm(text(e)).indexOf(" + quote(expectedText) + ") >= 0";
       }
 
       @Override
@@ -318,10 +365,16 @@ public abstract class Condition {
    * @param text expected text of HTML element
    */
   public static Condition exactText(final String text) {
+    String expectedText = Html.text.reduceSpaces(text);
     return new Condition("exact text") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
-        return Html.text.equals(element.getText(), text);
+        return Html.text.equals(element.getText(), expectedText);
+      }
+
+      @Override
+      public String toJavaScript() {
+        return "norm(text(e)).toLowerCase() == " + quote(expectedText) + ".toLowerCase()";
       }
 
       @Override
@@ -339,10 +392,16 @@ public abstract class Condition {
    * @param text expected text of HTML element
    */
   public static Condition exactTextCaseSensitive(final String text) {
+    String expectedText = Html.text.reduceSpaces(text);
     return new Condition("exact text case sensitive") {
       @Override
       public boolean apply(Driver driver, WebElement element) {
-        return Html.text.equalsCaseSensitive(element.getText(), text);
+        return Html.text.equalsCaseSensitive(element.getText(), expectedText);
+      }
+
+      @Override
+      public String toJavaScript() {
+        return "norm(text(e)) == " + quote(expectedText);
       }
 
       @Override
@@ -372,6 +431,11 @@ public abstract class Condition {
         return classes != null && contains(classes.split(" "), cssClass);
       }
 
+      @Override
+      public String toJavaScript() {
+        return "hasClass(e, " + quote(cssClass) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + cssClass + '\'';
@@ -406,6 +470,11 @@ public abstract class Condition {
         return defaultString(expectedValue).equalsIgnoreCase(defaultString(actualValue));
       }
 
+      @Override
+      public String toJavaScript() {
+        return "css(e, " + quote(propertyName) + ").toLowerCase() == " + quote(defaultString(expectedValue)) + ".toLowerCase()";
+      }
+
       @Override
       public String actualValue(Driver driver, WebElement element) {
         return element.getCssValue(propertyName);
@@ -432,6 +501,11 @@ public abstract class Condition {
       return focusedElement != null && focusedElement.equals(webElement);
     }
 
+    @Override
+    public String toJavaScript() {
+      return "e === document.activeElement";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement webElement) {
       WebElement focusedElement = getFocusedElement(driver);
@@ -452,6 +526,11 @@ public abstract class Condition {
       return element.isEnabled();
     }
 
+    @Override
+    public String toJavaScript() {
+      return "!e.matches(':disabled')";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
@@ -469,6 +548,11 @@ public abstract class Condition {
       return !element.isEnabled();
     }
 
+    @Override
+    public String toJavaScript() {
+      return "e.matches(':disabled')";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
@@ -486,6 +570,11 @@ public abstract class Condition {
       return element.isSelected();
     }
 
+    @Override
+    public String toJavaScript() {
+      return "!!(e.selected || e.checked)";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return String.valueOf(element.isSelected());
@@ -503,6 +592,11 @@ public abstract class Condition {
       return element.isSelected();
     }
 
+    @Override
+    public String toJavaScript() {
+      return "!!(e.selected || e.checked)";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return String.valueOf(element.isSelected());
@@ -523,6 +617,12 @@ public abstract class Condition {
         return !condition.apply(driver, element);
       }
 
+      @Override
+      public String toJavaScript() {
+        String expression = condition.toJavaScript();
+        return expression == null ? null : "!(" + expression + ")";
+      }
+
       @Override
       public String actualValue(Driver driver, WebElement element) {
         return condition.actualValue(driver, element);
@@ -557,6 +657,11 @@ public abstract class Condition {
         return lastFailedCondition == null ? null : lastFailedCondition.actualValue(driver, element);
       }
 
+      @Override
+      public String toJavaScript() {
+        return joinJavaScript(" && ", condition);
+      }
+
       @Override
       public String toString() {
         return lastFailedCondition == null ? super.toString() : lastFailedCondition.toString();
@@ -593,6 +698,11 @@ public abstract class Condition {
         return firstFailedCondition == null ? null : firstFailedCondition.actualValue(driver, element);
       }
 
+      @Override
+      public String toJavaScript() {
+        return joinJavaScript(" || ", condition);
+      }
+
       @Override
       public String toString() {
         return firstFailedCondition == null ? super.toString() : firstFailedCondition.toString();
@@ -600,6 +710,18 @@ public abstract class Condition {
     };
   }
 
+  private static String joinJavaScript(String operator, Condition... conditions) {
+    StringBuilder sb = new StringBuilder();
+    for (Condition condition : conditions) {
+      String expression = condition.toJavaScript();
+      if (expression == null) {
+        return null;
+      }
+      sb.append(sb.length() == 0 ? "" : operator).append('(').append(expression).append(')');
+    }
+    return sb.length() == 0 ? null : sb.toString();
+  }
+
   /**
    * Used to form human-readable condition expression
    * Example element.should(be(visible),have(text("abc"))
@@ -634,6 +756,11 @@ public abstract class Condition {
         return delegate.actualValue(driver, element);
       }
 
+      @Override
+      public String toJavaScript() {
+        return delegate.toJavaScript();
+      }
+
       @Override
       public String toString() {
         return prefix + ' ' + delegate.toString();
@@ -661,6 +788,11 @@ public abstract class Condition {
       return delegate.actualValue(driver, element);
     }
 
+    @Override
+    public String toJavaScript() {
+      return delegate.toJavaScript();
+    }
+
     @Override
     public String toString() {
       return delegate.toString() + " (because " + message + ")";
@@ -704,6 +836,19 @@ public abstract class Condition {
     return null;
   }
 
+  /**
+   * JavaScript expression which checks this condition in browser, or null if the condition can be checked only in Java.
+   * <p>
+   * Used if {@code config.conditionsViaJs} is enabled (see {@link ConditionCompiler}).
+   * The expression can use variable {@code e} (the element) and helper functions declared by {@link ConditionCompiler}.
+   * If you override {@link #apply(Driver, WebElement)} in a subclass, override this method too.
+   *
+   * @return null by default
+   */
+  public String toJavaScript() {
+    return null;
+  }
+
   /**
    * Should be used for explaining the reason of condition
    */
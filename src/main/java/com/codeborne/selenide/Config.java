@@ -18,18 +18,30 @@ public interface Config {
   String baseUrl();
   long timeout();
   long pollingInterval();
+  PollingStrategy pollingStrategy();
   boolean holdBrowserOpen();
   boolean reopenBrowserOnFail();
+  int driverPoolSize();
+  boolean closeBrowserInBackground();
   boolean clickViaJs();
+  boolean textsViaJs();
+  boolean conditionsViaJs();
+  boolean waitViaJs();
+  boolean nestedSelectorsViaJs();
   boolean screenshots();
   boolean savePageSource();
+  boolean eagerErrorMessages();
+  boolean asyncScreenshots();
   String reportsFolder();
+  String downloadsFolder();
   String reportsUrl();
   boolean fastSetValue();
   boolean versatileSetValue();
   SelectorMode selectorMode();
+  boolean cacheElements();
   AssertionMode assertionMode();
   FileDownloadMode fileDownload();
+  int parallelDownloads();
   boolean proxyEnabled();
   String proxyHost();
   int proxyPort();
@@ -1,5 +1,7 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.commands.Commands;
+import com.codeborne.selenide.impl.ElementCache;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -13,6 +15,14 @@ public interface Driver {
   WebDriver getAndCheckWebDriver();
   void close();
 
+  /**
+   * Commands available for elements of this driver.
+   * Commands added here override global {@link Commands#getInstance()} only for this driver.
+   */
+  default Commands commands() {
+    return Commands.getInstance();
+  }
+
   default boolean hasWebDriverStarted() {
     return getWebDriver() != null;
   }
@@ -31,6 +41,7 @@ public interface Driver {
   }
 
   default SelenideTargetLocator switchTo() {
+    ElementCache.invalidate(this);
     return new SelenideTargetLocator(config(), getWebDriver());
   }
 
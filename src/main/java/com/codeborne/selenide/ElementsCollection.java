@@ -1,5 +1,6 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.collections.CollectionSizeCondition;
 import com.codeborne.selenide.ex.UIAssertionError;
 import com.codeborne.selenide.impl.BySelectorCollection;
 import com.codeborne.selenide.impl.Cleanup;
@@ -9,6 +10,7 @@ import com.codeborne.selenide.impl.Describe;
 import com.codeborne.selenide.impl.FilteringCollection;
 import com.codeborne.selenide.impl.HeadOfCollection;
 import com.codeborne.selenide.impl.LastCollectionElement;
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
 import com.codeborne.selenide.impl.SelenideElementIterator;
 import com.codeborne.selenide.impl.SelenideElementListIterator;
 import com.codeborne.selenide.impl.TailOfCollection;
@@ -21,6 +23,7 @@ import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import java.awt.image.BufferedImage;
 import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -130,11 +133,19 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     Exception lastError = null;
     List<WebElement> actualElements = null;
     Stopwatch stopwatch = new Stopwatch(timeoutMs);
+    int attempt = 0;
     do {
       try {
-        actualElements = collection.getElements();
-        if (condition.apply(actualElements)) {
-          return;
+        if (condition instanceof CollectionSizeCondition) {
+          if (((CollectionSizeCondition) condition).apply(collection.size())) {
+            return;
+          }
+        }
+        else {
+          actualElements = collection.getElements();
+          if (condition.apply(driver(), actualElements)) {
+            return;
+          }
         }
       }
       catch (JavascriptException e) {
@@ -154,12 +165,27 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
 
         throw outOfCollection;
       }
-      sleep(driver().config().pollingInterval());
+      sleep(driver().config().pollingStrategy().interval(++attempt, driver().config().pollingInterval()));
     }
     while (!stopwatch.isTimeoutReached());
+    if (condition instanceof CollectionSizeCondition && lastError == null) {
+      actualElements = getElementsForErrorMessage();
+    }
     condition.fail(collection, actualElements, lastError, timeoutMs);
   }
 
+  /**
+   * Size conditions only count elements while waiting, but error message shows the elements
+   */
+  private List<WebElement> getElementsForErrorMessage() {
+    try {
+      return collection.getElements();
+    }
+    catch (WebDriverException | IndexOutOfBoundsException e) {
+      return null;
+    }
+  }
+
   void sleep(long ms) {
     try {
       Thread.sleep(ms);
@@ -236,6 +262,17 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     return collection.getElements();
   }
 
+  /**
+   * Takes screenshots of all elements of this collection.
+   * Page screenshot is taken only once, and images of elements are cropped from it.
+   *
+   * @return images of elements (null for elements not displayed on current screen),
+   * or null if failed to take screenshot
+   */
+  public List<BufferedImage> screenshotsAsImages() {
+    return ScreenShotLaboratory.getInstance().takeScreenshotsAsImages(driver(), getElements());
+  }
+
   /**
    * Gets all the texts in elements collection
    * @return array of texts
@@ -277,11 +314,11 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
 
     StringBuilder sb = new StringBuilder(256);
     sb.append("[\n\t");
-    for (WebElement element : elements) {
+    for (String description : Describe.describe(driver, elements)) {
       if (sb.length() > 4) {
         sb.append(",\n\t");
       }
-      sb.append(Describe.describe(driver, element));
+      sb.append(description);
     }
     sb.append("\n]");
     return sb.toString();
@@ -344,7 +381,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
   @Override
   public int size() {
     try {
-      return getElements().size();
+      return collection.size();
     } catch (IndexOutOfBoundsException outOfCollection) {
       return 0;
     }
@@ -352,12 +389,12 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
 
   @Override
   public Iterator<SelenideElement> iterator() {
-    return new SelenideElementIterator(fetch());
+    return new SelenideElementIterator(collection);
   }
 
   @Override
   public ListIterator<SelenideElement> listIterator(int index) {
-    return new SelenideElementListIterator(fetch(), index);
+    return new SelenideElementListIterator(collection, index);
   }
 
   private WebElementsCollectionWrapper fetch() {
@@ -370,7 +407,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     List<WebElement> fetchedElements = collection.getElements();
     Object[] result = new Object[fetchedElements.size()];
     for (int i = 0; i < result.length; i++) {
-      result[i] = CollectionElement.wrap(collection, i);
+      result[i] = CollectionElement.wrap(collection, i, fetchedElements.get(i));
     }
     return result;
   }
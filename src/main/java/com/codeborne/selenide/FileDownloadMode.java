@@ -13,5 +13,12 @@ public enum FileDownloadMode {
    * Works for any elements (e.g. form submission).
    * Doesn't work if you are using custom webdriver without selenide proxy server.
    */
-  PROXY
+  PROXY,
+
+  /**
+   * Download files to folder {@code downloadsFolder} by browser itself (without proxy server).
+   * Works for any elements (e.g. form submission).
+   * Works only for Chrome and Firefox started by Selenide (they are configured to save files without asking).
+   */
+  FOLDER
 }
@@ -0,0 +1,44 @@
+package com.codeborne.selenide;
+
+import com.codeborne.selenide.polling.ConstantInterval;
+import com.codeborne.selenide.polling.ExponentialBackoff;
+import com.codeborne.selenide.polling.FastStart;
+
+/**
+ * Defines how long Selenide waits between attempts when it's waiting for a condition
+ * (in {@code should*}, {@code waitUntil}, collection checks, file download etc.)
+ *
+ * <p>Sample: {@code new SelenideConfig().pollingStrategy(PollingStrategy.exponentialBackoff(10, 500))}</p>
+ */
+public interface PollingStrategy {
+  /**
+   * @param attempt         number of the failed attempt: 1 after the first check, 2 after the second etc.
+   * @param pollingInterval polling interval configured by user (see {@link Config#pollingInterval()})
+   * @return how many milliseconds to wait before the next attempt
+   */
+  long interval(int attempt, long pollingInterval);
+
+  /**
+   * Always waits {@link Config#pollingInterval()} milliseconds between attempts.
+   * This is the default strategy.
+   */
+  static PollingStrategy constant() {
+    return new ConstantInterval();
+  }
+
+  /**
+   * Starts with {@code initialIntervalMs} and doubles the interval after every attempt,
+   * but never waits more than {@code maxIntervalMs}.
+   */
+  static PollingStrategy exponentialBackoff(long initialIntervalMs, long maxIntervalMs) {
+    return new ExponentialBackoff(initialIntervalMs, maxIntervalMs);
+  }
+
+  /**
+   * Makes first {@code fastAttempts} attempts every {@code fastIntervalMs} milliseconds,
+   * then waits {@link Config#pollingInterval()} milliseconds between attempts.
+   */
+  static PollingStrategy fastStart(int fastAttempts, long fastIntervalMs) {
+    return new FastStart(fastAttempts, fastIntervalMs);
+  }
+}
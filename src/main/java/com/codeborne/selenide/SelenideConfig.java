@@ -24,19 +24,31 @@ public class SelenideConfig implements Config {
   private String baseUrl = System.getProperty("selenide.baseUrl", "http://localhost:8080");
   private long timeout = Long.parseLong(System.getProperty("selenide.timeout", "4000"));
   private long pollingInterval = Long.parseLong(System.getProperty("selenide.pollingInterval", "200"));
+  private PollingStrategy pollingStrategy = PollingStrategy.constant();
   private boolean holdBrowserOpen = Boolean.getBoolean("selenide.holdBrowserOpen");
   private boolean reopenBrowserOnFail = Boolean.parseBoolean(System.getProperty("selenide.reopenBrowserOnFail", "true"));
+  private int driverPoolSize = Integer.parseInt(System.getProperty("selenide.driverPoolSize", "0"));
+  private boolean closeBrowserInBackground = Boolean.parseBoolean(System.getProperty("selenide.closeBrowserInBackground", "false"));
   private boolean clickViaJs = Boolean.parseBoolean(System.getProperty("selenide.clickViaJs", "false"));
+  private boolean textsViaJs = Boolean.parseBoolean(System.getProperty("selenide.textsViaJs", "false"));
+  private boolean conditionsViaJs = Boolean.parseBoolean(System.getProperty("selenide.conditionsViaJs", "false"));
+  private boolean waitViaJs = Boolean.parseBoolean(System.getProperty("selenide.waitViaJs", "false"));
+  private boolean nestedSelectorsViaJs = Boolean.parseBoolean(System.getProperty("selenide.nestedSelectorsViaJs", "false"));
   private boolean screenshots = Boolean.parseBoolean(System.getProperty("selenide.screenshots", "true"));
 
   private boolean savePageSource = Boolean.parseBoolean(System.getProperty("selenide.savePageSource", "true"));
+  private boolean eagerErrorMessages = Boolean.parseBoolean(System.getProperty("selenide.eagerErrorMessages", "false"));
+  private boolean asyncScreenshots = Boolean.parseBoolean(System.getProperty("selenide.asyncScreenshots", "false"));
   private String reportsFolder = System.getProperty("selenide.reportsFolder", "build/reports/tests");
+  private String downloadsFolder = System.getProperty("selenide.downloadsFolder", "build/downloads");
   private String reportsUrl = new CiReportUrl().getReportsUrl(System.getProperty("selenide.reportsUrl"));
   private boolean fastSetValue = Boolean.parseBoolean(System.getProperty("selenide.fastSetValue", "false"));
   private boolean versatileSetValue = Boolean.parseBoolean(System.getProperty("selenide.versatileSetValue", "false"));
   private SelectorMode selectorMode = CSS;
+  private boolean cacheElements = Boolean.parseBoolean(System.getProperty("selenide.cacheElements", "false"));
   private AssertionMode assertionMode = STRICT;
   private FileDownloadMode fileDownload = FileDownloadMode.valueOf(System.getProperty("selenide.fileDownload", HTTPGET.name()));
+  private int parallelDownloads = Integer.parseInt(System.getProperty("selenide.parallelDownloads", "4"));
   private boolean proxyEnabled = Boolean.parseBoolean(System.getProperty("selenide.proxyEnabled", "false"));
   private String proxyHost = System.getProperty("selenide.proxyHost", "");
   private int proxyPort = Integer.parseInt(System.getProperty("selenide.proxyPort", "0"));
@@ -71,6 +83,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return pollingStrategy;
+  }
+
+  public SelenideConfig pollingStrategy(PollingStrategy pollingStrategy) {
+    this.pollingStrategy = pollingStrategy;
+    return this;
+  }
+
   @Override
   public boolean holdBrowserOpen() {
     return holdBrowserOpen;
@@ -91,6 +113,26 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public int driverPoolSize() {
+    return driverPoolSize;
+  }
+
+  public SelenideConfig driverPoolSize(int driverPoolSize) {
+    this.driverPoolSize = driverPoolSize;
+    return this;
+  }
+
+  @Override
+  public boolean closeBrowserInBackground() {
+    return closeBrowserInBackground;
+  }
+
+  public SelenideConfig closeBrowserInBackground(boolean closeBrowserInBackground) {
+    this.closeBrowserInBackground = closeBrowserInBackground;
+    return this;
+  }
+
   @Override
   public boolean clickViaJs() {
     return clickViaJs;
@@ -101,6 +143,46 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean textsViaJs() {
+    return textsViaJs;
+  }
+
+  public SelenideConfig textsViaJs(boolean textsViaJs) {
+    this.textsViaJs = textsViaJs;
+    return this;
+  }
+
+  @Override
+  public boolean conditionsViaJs() {
+    return conditionsViaJs;
+  }
+
+  public SelenideConfig conditionsViaJs(boolean conditionsViaJs) {
+    this.conditionsViaJs = conditionsViaJs;
+    return this;
+  }
+
+  @Override
+  public boolean waitViaJs() {
+    return waitViaJs;
+  }
+
+  public SelenideConfig waitViaJs(boolean waitViaJs) {
+    this.waitViaJs = waitViaJs;
+    return this;
+  }
+
+  @Override
+  public boolean nestedSelectorsViaJs() {
+    return nestedSelectorsViaJs;
+  }
+
+  public SelenideConfig nestedSelectorsViaJs(boolean nestedSelectorsViaJs) {
+    this.nestedSelectorsViaJs = nestedSelectorsViaJs;
+    return this;
+  }
+
   @Override
   public boolean screenshots() {
     return screenshots;
@@ -121,6 +203,26 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean eagerErrorMessages() {
+    return eagerErrorMessages;
+  }
+
+  public SelenideConfig eagerErrorMessages(boolean eagerErrorMessages) {
+    this.eagerErrorMessages = eagerErrorMessages;
+    return this;
+  }
+
+  @Override
+  public boolean asyncScreenshots() {
+    return asyncScreenshots;
+  }
+
+  public SelenideConfig asyncScreenshots(boolean asyncScreenshots) {
+    this.asyncScreenshots = asyncScreenshots;
+    return this;
+  }
+
   @Override
   public String reportsFolder() {
     return reportsFolder;
@@ -131,6 +233,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public String downloadsFolder() {
+    return downloadsFolder;
+  }
+
+  public SelenideConfig downloadsFolder(String downloadsFolder) {
+    this.downloadsFolder = downloadsFolder;
+    return this;
+  }
+
   @Override
   public String reportsUrl() {
     return reportsUrl;
@@ -171,6 +283,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean cacheElements() {
+    return cacheElements;
+  }
+
+  public SelenideConfig cacheElements(boolean cacheElements) {
+    this.cacheElements = cacheElements;
+    return this;
+  }
+
   @Override
   public AssertionMode assertionMode() {
     return assertionMode;
@@ -191,6 +313,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public int parallelDownloads() {
+    return parallelDownloads;
+  }
+
+  public SelenideConfig parallelDownloads(int parallelDownloads) {
+    this.parallelDownloads = parallelDownloads;
+    return this;
+  }
+
   @Override
   public boolean proxyEnabled() {
     return proxyEnabled;
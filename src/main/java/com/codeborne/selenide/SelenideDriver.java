@@ -1,5 +1,6 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.drivercommands.LazyDriver;
 import com.codeborne.selenide.drivercommands.Navigator;
 import com.codeborne.selenide.drivercommands.WebDriverWrapper;
@@ -55,6 +56,13 @@ public class SelenideDriver {
     return driver;
   }
 
+  /**
+   * Commands added here override global commands only for elements of this driver
+   */
+  public Commands commands() {
+    return driver.commands();
+  }
+
   public void open(String relativeOrAbsoluteUrl) {
     navigator.open(this, relativeOrAbsoluteUrl);
   }
@@ -285,4 +293,12 @@ public class SelenideDriver {
   public File download(String url, long timeoutMs) throws IOException {
     return downloadFileWithHttpRequest.download(driver(), url, timeoutMs);
   }
+
+  public List<File> download(List<String> urls) throws IOException {
+    return download(urls, config.timeout());
+  }
+
+  public List<File> download(List<String> urls, long timeoutMs) throws IOException {
+    return downloadFileWithHttpRequest.download(driver(), urls, timeoutMs);
+  }
 }
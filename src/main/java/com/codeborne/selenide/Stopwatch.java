@@ -2,6 +2,7 @@ package com.codeborne.selenide;
 
 import static java.lang.System.nanoTime;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class Stopwatch {
   private final long endTimeNano;
@@ -14,6 +15,13 @@ public class Stopwatch {
     return nanoTime() > endTimeNano;
   }
 
+  /**
+   * @return milliseconds left until timeout, or 0 if timeout is reached
+   */
+  public long getRemainingMs() {
+    return Math.max(0, NANOSECONDS.toMillis(endTimeNano - nanoTime()));
+  }
+
   public void sleep(long milliseconds) {
     try {
       Thread.sleep(milliseconds);
@@ -0,0 +1,15 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.impl.WebElementsCollection;
+
+/**
+ * Collection condition which depends only on the number of elements (like {@code size(n)}).
+ * Such conditions are checked without fetching collection elements from webdriver -
+ * elements are only counted (see {@link WebElementsCollection#size()}).
+ */
+public interface CollectionSizeCondition {
+  /**
+   * Check if collection with given number of elements matches this condition
+   */
+  boolean apply(int size);
+}
@@ -1,9 +1,11 @@
 package com.codeborne.selenide.collections;
 
 import com.codeborne.selenide.CollectionCondition;
+import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.TextsMismatch;
+import com.codeborne.selenide.impl.ElementsTexts;
 import com.codeborne.selenide.impl.Html;
 import com.codeborne.selenide.impl.WebElementsCollection;
 import org.openqa.selenium.WebElement;
@@ -12,10 +14,16 @@ import java.util.List;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
 
 public class ExactTexts extends CollectionCondition {
   protected final List<String> expectedTexts;
 
+  /**
+   * Expected texts with reduced spaces - calculated once, not on every check
+   */
+  protected final List<String> normalizedExpectedTexts;
+
   public ExactTexts(String... expectedTexts) {
     this(asList(expectedTexts));
   }
@@ -25,18 +33,27 @@ public class ExactTexts extends CollectionCondition {
       throw new IllegalArgumentException("No expected texts given");
     }
     this.expectedTexts = unmodifiableList(expectedTexts);
+    this.normalizedExpectedTexts = expectedTexts.stream().map(Html.text::reduceSpaces).collect(toList());
   }
 
   @Override
   public boolean apply(List<WebElement> elements) {
-    if (elements.size() != expectedTexts.size()) {
-      return false;
-    }
+    return elements.size() == expectedTexts.size() && matches(ElementsTexts.instance.texts(elements));
+  }
+
+  @Override
+  public boolean apply(Driver driver, List<WebElement> elements) {
+    return elements.size() == expectedTexts.size() && matches(ElementsTexts.instance.texts(driver, elements));
+  }
 
+  /**
+   * @param actualTexts texts of collection elements, has the same size as expected texts
+   */
+  protected boolean matches(List<String> actualTexts) {
     for (int i = 0; i < expectedTexts.size(); i++) {
-      WebElement element = elements.get(i);
-      String expectedText = expectedTexts.get(i);
-      if (!Html.text.equals(element.getText(), expectedText)) {
+      String actualText = actualTexts.get(i);
+      String expectedText = normalizedExpectedTexts.get(i);
+      if (!Html.text.equals(actualText, expectedText)) {
         return false;
       }
     }
@@ -50,7 +67,7 @@ public class ExactTexts extends CollectionCondition {
       elementNotFound.timeoutMs = timeoutMs;
       throw elementNotFound;
     } else {
-      throw new TextsMismatch(collection, ElementsCollection.texts(elements), expectedTexts, explanation, timeoutMs);
+      throw new TextsMismatch(collection, () -> ElementsCollection.texts(elements), expectedTexts, explanation, timeoutMs);
     }
   }
 
@@ -7,7 +7,7 @@ import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
-public class SizeGreaterThan extends CollectionCondition {
+public class SizeGreaterThan extends CollectionCondition implements CollectionSizeCondition {
   protected final int expectedSize;
 
   public SizeGreaterThan(int expectedSize) {
@@ -34,7 +34,8 @@ public class SizeGreaterThan extends CollectionCondition {
     return String.format("size > %s", expectedSize);
   }
 
-  private boolean apply(int size) {
+  @Override
+  public boolean apply(int size) {
     return size > expectedSize;
   }
 }
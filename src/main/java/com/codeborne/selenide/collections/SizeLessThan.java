@@ -7,7 +7,7 @@ import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
-public class SizeLessThan extends CollectionCondition {
+public class SizeLessThan extends CollectionCondition implements CollectionSizeCondition {
   protected final int expectedSize;
 
   public SizeLessThan(int expectedSize) {
@@ -34,7 +34,8 @@ public class SizeLessThan extends CollectionCondition {
     return String.format("size < %s", expectedSize);
   }
 
-  private boolean apply(int size) {
+  @Override
+  public boolean apply(int size) {
     return size < expectedSize;
   }
 }
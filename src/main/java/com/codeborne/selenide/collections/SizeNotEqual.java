@@ -7,7 +7,7 @@ import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
-public class SizeNotEqual extends CollectionCondition {
+public class SizeNotEqual extends CollectionCondition implements CollectionSizeCondition {
   protected final int expectedSize;
 
   public SizeNotEqual(int expectedSize) {
@@ -34,7 +34,8 @@ public class SizeNotEqual extends CollectionCondition {
     return String.format("size <> %s", expectedSize);
   }
 
-  private boolean apply(int size) {
+  @Override
+  public boolean apply(int size) {
     return size != expectedSize;
   }
 }
@@ -5,142 +5,266 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Registry of Selenide commands.
+ *
+ * Commands are stored in an immutable map which is replaced on every change (copy-on-write),
+ * so that executing a command doesn't need any locks.
+ *
+ * Every {@link com.codeborne.selenide.Driver} has its own registry on top of global {@link #getInstance()}.
+ * Commands added to it override global commands only for this driver.
+ *
+ * Methods of {@link SelenideElement} are bound to commands via {@link Slot}s: every registry looks up
+ * the command for a slot by name only once (and once again after any registry is changed).
+ */
 public class Commands {
-  private static Commands collection;
+  private static final AtomicInteger changes = new AtomicInteger();
+  private static final AtomicInteger slotCount = new AtomicInteger();
+  private static final Map<String, Slot> slots = new ConcurrentHashMap<>(128);
+  private static final Commands collection = createDefault();
 
-  private final Map<String, Command> commands = new ConcurrentHashMap<>(128);
+  private final Commands parent;
+  private volatile Map<String, Command<?>> commands = emptyMap();
+  private volatile Bindings bindings = new Bindings(-1, 0);
 
-  public static synchronized Commands getInstance() {
-    if (collection == null) {
-      collection = new Commands();
-      collection.resetDefaults();
-    }
+  public Commands() {
+    this(null);
+  }
+
+  /**
+   * @param parent registry used for commands not added to this registry
+   */
+  public Commands(Commands parent) {
+    this.parent = parent;
+  }
+
+  private static Commands createDefault() {
+    Commands defaults = new Commands();
+    defaults.resetDefaults();
+    return defaults;
+  }
+
+  public static Commands getInstance() {
     return collection;
   }
 
+  /**
+   * Restores default commands. For a registry with parent, removes all commands added to it.
+   */
   public final synchronized void resetDefaults() {
-    commands.clear();
-    addFindCommands();
-    addClickCommands();
-    addModifyCommands();
-    addInfoCommands();
-    addSelectCommands();
-    addKeyboardCommands();
-    addActionsCommands();
-    addShouldCommands();
-    addShouldNotCommands();
-    addFileCommands();
-    addTechnicalCommands();
-  }
-
-  private void addTechnicalCommands() {
-    add("toString", new ToString());
-    add("toWebElement", new ToWebElement());
-    add("getWrappedElement", new GetWrappedElement());
-    add("screenshot", new TakeScreenshot());
-    add("screenshotAsImage", new TakeScreenshotAsImage());
-    add("getSearchCriteria", new GetSearchCriteria());
-  }
-
-  private void addActionsCommands() {
-    add("dragAndDropTo", new DragAndDropTo());
-    add("hover", new Hover());
-    add("scrollTo", new ScrollTo());
-    add("scrollIntoView", new ScrollIntoView());
-  }
-
-  private void addInfoCommands() {
-    add("attr", new GetAttribute());
-    add("data", new GetDataAttribute());
-    add("exists", new Exists());
-    add("innerText", new GetInnerText());
-    add("innerHtml", new GetInnerHtml());
-    add("has", new Matches());
-    add("is", new Matches());
-    add("isDisplayed", new IsDisplayed());
-    add("isImage", new IsImage());
-    add("getText", new GetText());
-    add("name", new GetName());
-    add("text", new GetText());
-    add("getValue", new GetValue());
-  }
-
-  private void addClickCommands() {
-    add("click", new Click());
-    add("contextClick", new ContextClick());
-    add("doubleClick", new DoubleClick());
-  }
-
-  private void addModifyCommands() {
-    add("selectRadio", new SelectRadio());
-    add("setSelected", new SetSelected());
-    add("setValue", new SetValue());
-    add("val", new Val());
-    add("append", new Append());
-  }
-
-  private void addFindCommands() {
-    add("find", new Find());
-    add("$", new Find());
-    add("$x", new FindByXpath());
-    add("findAll", new FindAll());
-    add("$$", new FindAll());
-    add("$$x", new FindAllByXpath());
-    add("closest", new GetClosest());
-    add("parent", new GetParent());
-    add("lastChild", new GetLastChild());
-  }
-
-  private void addKeyboardCommands() {
-    add("pressEnter", new PressEnter());
-    add("pressEscape", new PressEscape());
-    add("pressTab", new PressTab());
-  }
-
-  private void addSelectCommands() {
-    add("getSelectedOption", new GetSelectedOption());
-    add("getSelectedOptions", new GetSelectedOptions());
-    add("getSelectedText", new GetSelectedText());
-    add("getSelectedValue", new GetSelectedValue());
-    add("selectOption", new SelectOptionByTextOrIndex());
-    add("selectOptionContainingText", new SelectOptionContainingText());
-    add("selectOptionByValue", new SelectOptionByValue());
-  }
-
-  private void addFileCommands() {
-    add("download", new DownloadFile());
-    add("uploadFile", new UploadFile());
-    add("uploadFromClasspath", new UploadFileFromClasspath());
-  }
-
-  private void addShouldNotCommands() {
-    add("shouldNot", new ShouldNot());
-    add("shouldNotHave", new ShouldNotHave());
-    add("shouldNotBe", new ShouldNotBe());
-    add("waitWhile", new ShouldNotBe());
-  }
-
-  private void addShouldCommands() {
-    add("should", new Should());
-    add("shouldHave", new ShouldHave());
-    add("shouldBe", new ShouldBe());
-    add("waitUntil", new ShouldBe());
+    if (parent != null) {
+      commands = emptyMap();
+      changes.incrementAndGet();
+      return;
+    }
+    Map<String, Command<?>> commands = new HashMap<>(128);
+    addFindCommands(commands);
+    addClickCommands(commands);
+    addModifyCommands(commands);
+    addInfoCommands(commands);
+    addSelectCommands(commands);
+    addKeyboardCommands(commands);
+    addActionsCommands(commands);
+    addShouldCommands(commands);
+    addShouldNotCommands(commands);
+    addFileCommands(commands);
+    addTechnicalCommands(commands);
+    this.commands = unmodifiableMap(commands);
+    changes.incrementAndGet();
+  }
+
+  private void addTechnicalCommands(Map<String, Command<?>> commands) {
+    commands.put("toString", new ToString());
+    commands.put("toWebElement", new ToWebElement());
+    commands.put("getWrappedElement", new GetWrappedElement());
+    commands.put("screenshot", new TakeScreenshot());
+    commands.put("screenshotAsImage", new TakeScreenshotAsImage());
+    commands.put("getSearchCriteria", new GetSearchCriteria());
+  }
+
+  private void addActionsCommands(Map<String, Command<?>> commands) {
+    commands.put("dragAndDropTo", new DragAndDropTo());
+    commands.put("hover", new Hover());
+    commands.put("scrollTo", new ScrollTo());
+    commands.put("scrollIntoView", new ScrollIntoView());
+  }
+
+  private void addInfoCommands(Map<String, Command<?>> commands) {
+    commands.put("attr", new GetAttribute());
+    commands.put("data", new GetDataAttribute());
+    commands.put("exists", new Exists());
+    commands.put("innerText", new GetInnerText());
+    commands.put("innerHtml", new GetInnerHtml());
+    commands.put("has", new Matches());
+    commands.put("is", new Matches());
+    commands.put("isDisplayed", new IsDisplayed());
+    commands.put("isImage", new IsImage());
+    commands.put("getText", new GetText());
+    commands.put("name", new GetName());
+    commands.put("text", new GetText());
+    commands.put("getValue", new GetValue());
+  }
+
+  private void addClickCommands(Map<String, Command<?>> commands) {
+    commands.put("click", new Click());
+    commands.put("contextClick", new ContextClick());
+    commands.put("doubleClick", new DoubleClick());
+  }
+
+  private void addModifyCommands(Map<String, Command<?>> commands) {
+    commands.put("selectRadio", new SelectRadio());
+    commands.put("setSelected", new SetSelected());
+    commands.put("setValue", new SetValue());
+    commands.put("val", new Val());
+    commands.put("append", new Append());
+  }
+
+  private void addFindCommands(Map<String, Command<?>> commands) {
+    commands.put("find", new Find());
+    commands.put("$", new Find());
+    commands.put("$x", new FindByXpath());
+    commands.put("findAll", new FindAll());
+    commands.put("$$", new FindAll());
+    commands.put("$$x", new FindAllByXpath());
+    commands.put("closest", new GetClosest());
+    commands.put("parent", new GetParent());
+    commands.put("lastChild", new GetLastChild());
+  }
+
+  private void addKeyboardCommands(Map<String, Command<?>> commands) {
+    commands.put("pressEnter", new PressEnter());
+    commands.put("pressEscape", new PressEscape());
+    commands.put("pressTab", new PressTab());
+  }
+
+  private void addSelectCommands(Map<String, Command<?>> commands) {
+    commands.put("getSelectedOption", new GetSelectedOption());
+    commands.put("getSelectedOptions", new GetSelectedOptions());
+    commands.put("getSelectedText", new GetSelectedText());
+    commands.put("getSelectedValue", new GetSelectedValue());
+    commands.put("selectOption", new SelectOptionByTextOrIndex());
+    commands.put("selectOptionContainingText", new SelectOptionContainingText());
+    commands.put("selectOptionByValue", new SelectOptionByValue());
+  }
+
+  private void addFileCommands(Map<String, Command<?>> commands) {
+    commands.put("download", new DownloadFile());
+    commands.put("uploadFile", new UploadFile());
+    commands.put("uploadFromClasspath", new UploadFileFromClasspath());
+  }
+
+  private void addShouldNotCommands(Map<String, Command<?>> commands) {
+    commands.put("shouldNot", new ShouldNot());
+    commands.put("shouldNotHave", new ShouldNotHave());
+    commands.put("shouldNotBe", new ShouldNotBe());
+    commands.put("waitWhile", new ShouldNotBe());
   }
 
-  public void add(String method, Command command) {
-    commands.put(method, command);
+  private void addShouldCommands(Map<String, Command<?>> commands) {
+    commands.put("should", new Should());
+    commands.put("shouldHave", new ShouldHave());
+    commands.put("shouldBe", new ShouldBe());
+    commands.put("waitUntil", new ShouldBe());
+  }
+
+  public synchronized void add(String method, Command<?> command) {
+    Map<String, Command<?>> copy = new HashMap<>(commands);
+    copy.put(method, command);
+    commands = unmodifiableMap(copy);
+    changes.incrementAndGet();
+  }
+
+  /**
+   * @return slot for commands with given name (the same instance for the same name)
+   */
+  public static Slot slot(String methodName) {
+    return slots.computeIfAbsent(methodName, name -> new Slot(name, slotCount.getAndIncrement()));
   }
 
   @SuppressWarnings("unchecked")
   public <T> T execute(Object proxy, WebElementSource webElementSource, String methodName, Object[] args)
       throws IOException {
-    Command command = commands.get(methodName);
+    Command<?> command = find(methodName);
     if (command == null) {
       throw new IllegalArgumentException("Unknown Selenide method: " + methodName);
     }
     return (T) command.execute((SelenideElement) proxy, webElementSource, args);
   }
+
+  /**
+   * Same as {@link #execute(Object, WebElementSource, String, Object[])}, but without looking up command by name
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object proxy, WebElementSource webElementSource, Slot slot, Object[] args) throws IOException {
+    Command<?> command = find(slot);
+    if (command == null) {
+      throw new IllegalArgumentException("Unknown Selenide method: " + slot.methodName);
+    }
+    return (T) command.execute((SelenideElement) proxy, webElementSource, args);
+  }
+
+  private Command<?> find(Slot slot) {
+    int version = changes.get();
+    Bindings bindings = this.bindings;
+    if (bindings.version != version || bindings.commands.length() <= slot.index) {
+      bindings = new Bindings(version, slotCount.get());
+      this.bindings = bindings;
+    }
+    Command<?> command = bindings.commands.get(slot.index);
+    if (command == null) {
+      command = find(slot.methodName);
+      bindings.commands.set(slot.index, command);
+    }
+    return command;
+  }
+
+  private Command<?> find(String methodName) {
+    for (Commands registry = this; registry != null; registry = registry.parent) {
+      Command<?> command = registry.commands.get(methodName);
+      if (command != null) {
+        return command;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Name of command bound to a method of {@link SelenideElement}
+   */
+  public static final class Slot {
+    private final String methodName;
+    private final int index;
+
+    private Slot(String methodName, int index) {
+      this.methodName = methodName;
+      this.index = index;
+    }
+
+    @Override
+    public String toString() {
+      return methodName;
+    }
+  }
+
+  /**
+   * Commands found for slots, valid until any registry is changed
+   */
+  private static class Bindings {
+    private final int version;
+    private final AtomicReferenceArray<Command<?>> commands;
+
+    private Bindings(int version, int size) {
+      this.version = version;
+      this.commands = new AtomicReferenceArray<>(size);
+    }
+  }
 }
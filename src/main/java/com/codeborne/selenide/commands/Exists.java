@@ -11,7 +11,8 @@ public class Exists implements Command<Boolean> {
   @Override
   public Boolean execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     try {
-      return locator.getWebElement() != null;
+      locator.forgetCachedElement();
+      return locator.getWebElementOrNull() != null;
     } catch (WebDriverException | ElementNotFound elementNotFound) {
       if (Cleanup.of.isInvalidSelectorError(elementNotFound)) {
         throw Cleanup.of.wrap(elementNotFound);
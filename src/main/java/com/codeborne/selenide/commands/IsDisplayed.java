@@ -12,6 +12,7 @@ public class IsDisplayed implements Command<Boolean> {
   @Override
   public Boolean execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     try {
+      locator.forgetCachedElement();
       WebElement element = locator.getWebElement();
       return element != null && element.isDisplayed();
     } catch (WebDriverException | ElementNotFound elementNotFound) {
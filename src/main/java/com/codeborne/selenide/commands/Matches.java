@@ -23,7 +23,8 @@ public class Matches implements Command<Boolean> {
 
   protected WebElement getElementOrNull(WebElementSource locator) {
     try {
-      return locator.getWebElement();
+      locator.forgetCachedElement();
+      return locator.getWebElementOrNull();
     } catch (WebDriverException | ElementNotFound elementNotFound) {
       if (Cleanup.of.isInvalidSelectorError(elementNotFound))
         throw Cleanup.of.wrap(elementNotFound);
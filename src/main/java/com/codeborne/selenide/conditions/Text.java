@@ -8,11 +8,16 @@ import org.openqa.selenium.support.ui.Select;
 
 import java.util.List;
 
+import static com.codeborne.selenide.impl.ConditionCompiler.quote;
+
 public class Text extends Condition {
   protected final String text;
+  private final String expectedText;
+
   public Text(final String text) {
     super("text");
     this.text = text;
+    this.expectedText = Html.text.reduceSpaces(text);
   }
 
   @Override
@@ -20,7 +25,15 @@ public class Text extends Condition {
     String elementText = "select".equalsIgnoreCase(element.getTagName()) ?
         getSelectedOptionsTexts(element) :
         element.getText();
-    return Html.text.contains(elementText, this.text.toLowerCase());
+    return Html.text.contains(elementText, expectedText);
+  }
+
+  /**
+   * Subclasses may override {@link #apply(Driver, WebElement)}, so only this class itself is checked in browser.
+   */
+  @Override
+  public String toJavaScript() {
+    return getClass() == Text.class ? "contains(selectedText(e), " + quote(expectedText) + ")" : null;
   }
 
   private String getSelectedOptionsTexts(WebElement element) {
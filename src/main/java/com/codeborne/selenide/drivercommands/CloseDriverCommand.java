@@ -3,19 +3,53 @@ package com.codeborne.selenide.drivercommands;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.WebDriver;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.logging.Level.FINE;
 
 public class CloseDriverCommand {
   private static final Logger log = Logger.getLogger(CloseDriverCommand.class.getName());
 
+  /**
+   * Closes browsers in background (if {@code config.closeBrowserInBackground} is enabled).
+   * If too many browsers are being closed, the caller thread closes the browser itself.
+   */
+  private static final ThreadPoolExecutor closer = createCloser();
+  private static final Queue<Future<?>> closingBrowsers = new ConcurrentLinkedQueue<>();
+
+  private static ThreadPoolExecutor createCloser() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(4, 4, 10, SECONDS, new LinkedBlockingQueue<>(32), runnable -> {
+      Thread thread = new Thread(runnable, "selenide-close-browser-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }, (task, pool) -> task.run());
+    threadPool.allowCoreThreadTimeOut(true);
+    return threadPool;
+  }
+
   private final WebDriver webDriver;
   private final SelenideProxyServer selenideProxyServer;
+  private final boolean inBackground;
 
   CloseDriverCommand(WebDriver webDriver, SelenideProxyServer selenideProxyServer) {
+    this(webDriver, selenideProxyServer, false);
+  }
+
+  CloseDriverCommand(WebDriver webDriver, SelenideProxyServer selenideProxyServer, boolean inBackground) {
     this.webDriver = webDriver;
     this.selenideProxyServer = selenideProxyServer;
+    this.inBackground = inBackground;
   }
 
   public void run() {
@@ -26,6 +60,12 @@ public class CloseDriverCommand {
         log.info("Close proxy server: " + threadId + " -> " + selenideProxyServer);
       }
 
+      if (inBackground) {
+        closingBrowsers.removeIf(Future::isDone);
+        closingBrowsers.add(closer.submit(new CloseBrowser(webDriver, selenideProxyServer)));
+        return;
+      }
+
       long start = System.currentTimeMillis();
 
       Thread t = new Thread(new CloseBrowser(webDriver, selenideProxyServer));
@@ -47,4 +87,24 @@ public class CloseDriverCommand {
       selenideProxyServer.shutdown();
     }
   }
+
+  /**
+   * Waits until all browsers being closed in background are closed
+   */
+  static void awaitBackgroundClose(long timeoutMs) {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    Future<?> closing;
+    while ((closing = closingBrowsers.poll()) != null) {
+      try {
+        closing.get(Math.max(0, deadline - System.currentTimeMillis()), MILLISECONDS);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      catch (ExecutionException | TimeoutException e) {
+        log.log(FINE, "Failed to close webdriver in background", e);
+      }
+    }
+  }
 }
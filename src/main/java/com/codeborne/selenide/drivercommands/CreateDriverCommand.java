@@ -9,9 +9,14 @@ import org.openqa.selenium.support.events.EventFiringWebDriver;
 import org.openqa.selenium.support.events.WebDriverEventListener;
 
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import static java.lang.Thread.currentThread;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.logging.Level.FINE;
 
 public class CreateDriverCommand {
   private static final Logger log = Logger.getLogger(CreateDriverCommand.class.getName());
@@ -30,9 +35,11 @@ public class CreateDriverCommand {
     Proxy browserProxy = userProvidedProxy;
 
     if (config.proxyEnabled()) {
+      CompletableFuture<Void> webDriverBinary = runAsync(() -> factory.setupWebDriverBinary(config));
       selenideProxyServer = new SelenideProxyServer(config, userProvidedProxy);
       selenideProxyServer.start();
       browserProxy = selenideProxyServer.createSeleniumProxy();
+      awaitWebDriverBinary(webDriverBinary);
     }
 
     WebDriver webdriver = factory.createWebDriver(config, browserProxy);
@@ -44,6 +51,19 @@ public class CreateDriverCommand {
     return new Result(webDriver, selenideProxyServer);
   }
 
+  /**
+   * Webdriver binary is downloaded while proxy server is starting.
+   * If it failed, {@link WebDriverFactory#createWebDriver} will try again and report the error.
+   */
+  private void awaitWebDriverBinary(CompletableFuture<Void> webDriverBinary) {
+    try {
+      webDriverBinary.join();
+    }
+    catch (CompletionException | CancellationException e) {
+      log.log(FINE, "Failed to setup webdriver binary", e);
+    }
+  }
+
   private WebDriver addListeners(WebDriver webdriver, List<WebDriverEventListener> listeners) {
     if (listeners.isEmpty()) {
       return webdriver;
@@ -3,6 +3,7 @@ package com.codeborne.selenide.drivercommands;
 import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import com.codeborne.selenide.webdriver.WebDriverFactory;
 import org.openqa.selenium.Proxy;
@@ -24,8 +25,11 @@ public class LazyDriver implements Driver {
   private final Proxy userProvidedProxy;
   private final List<WebDriverEventListener> listeners = new ArrayList<>();
   private final Browser browser;
+  private final WebDriverPool pool;
+  private final Commands commands = new Commands(Commands.getInstance());
 
   private boolean closed;
+  private boolean pooled;
   private WebDriver webDriver;
   private SelenideProxyServer selenideProxyServer;
 
@@ -35,12 +39,18 @@ public class LazyDriver implements Driver {
 
   LazyDriver(Config config, Proxy userProvidedProxy, List<WebDriverEventListener> listeners,
              WebDriverFactory factory, BrowserHealthChecker browserHealthChecker) {
+    this(config, userProvidedProxy, listeners, factory, browserHealthChecker, WebDriverPool.instance);
+  }
+
+  LazyDriver(Config config, Proxy userProvidedProxy, List<WebDriverEventListener> listeners,
+             WebDriverFactory factory, BrowserHealthChecker browserHealthChecker, WebDriverPool pool) {
     this.config = config;
     this.browser = new Browser(config.browser(), config.headless());
     this.userProvidedProxy = userProvidedProxy;
     this.listeners.addAll(listeners);
     this.factory = factory;
     this.browserHealthChecker = browserHealthChecker;
+    this.pool = pool;
   }
 
   @Override
@@ -48,6 +58,11 @@ public class LazyDriver implements Driver {
     return config;
   }
 
+  @Override
+  public Commands commands() {
+    return commands;
+  }
+
   @Override
   public Browser browser() {
     return browser;
@@ -90,17 +105,37 @@ public class LazyDriver implements Driver {
   }
 
   void createDriver() {
-    CreateDriverCommand.Result result = new CreateDriverCommand().createDriver(config, factory, userProvidedProxy, listeners);
+    this.pooled = canUsePool();
+    CreateDriverCommand.Result result = pooled ?
+        pool.acquire(config, () -> factory.setupWebDriverBinary(config), this::startDriver) :
+        startDriver();
     this.webDriver = result.webDriver;
     this.selenideProxyServer = result.selenideProxyServer;
     this.closed = false;
-    Runtime.getRuntime().addShutdownHook(new SelenideDriverFinalCleanupThread(this));
+    SelenideDriverFinalCleanupThread.register(this);
+  }
+
+  private CreateDriverCommand.Result startDriver() {
+    return new CreateDriverCommand().createDriver(config, factory, userProvidedProxy, listeners);
+  }
+
+  /**
+   * Browsers with custom listeners or custom proxy are not shared with other tests
+   */
+  private boolean canUsePool() {
+    return config.driverPoolSize() > 0 && listeners.isEmpty() && userProvidedProxy == null;
   }
 
   @Override
   public void close() {
     if (!config.holdBrowserOpen()) {
-      new CloseDriverCommand(webDriver, selenideProxyServer).run();
+      if (pooled && webDriver != null) {
+        pool.release(config, new CreateDriverCommand.Result(webDriver, selenideProxyServer));
+      }
+      else {
+        new CloseDriverCommand(webDriver, selenideProxyServer, config.closeBrowserInBackground()).run();
+      }
+      SelenideDriverFinalCleanupThread.unregister(this);
       webDriver = null;
       selenideProxyServer = null;
       closed = true;
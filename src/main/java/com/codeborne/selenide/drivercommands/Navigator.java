@@ -5,6 +5,7 @@ import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Credentials;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.impl.ElementCache;
 import com.codeborne.selenide.logevents.SelenideLog;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import com.codeborne.selenide.proxy.AuthenticationFilter;
@@ -61,6 +62,7 @@ public class Navigator {
       WebDriver webDriver = driver.getAndCheckWebDriver();
       beforeNavigateTo(driver.config(), driver.getProxy(), authenticationType, domain, login, password);
       webDriver.navigate().to(url);
+      ElementCache.invalidate(driver.config(), webDriver);
       SelenideLogger.commitStep(log, PASS);
     }
     catch (WebDriverException e) {
@@ -149,13 +151,16 @@ public class Navigator {
 
   public void back(Driver driver) {
     driver.getWebDriver().navigate().back();
+    ElementCache.invalidate(driver);
   }
 
   public void forward(Driver driver) {
     driver.getWebDriver().navigate().forward();
+    ElementCache.invalidate(driver);
   }
 
   public void refresh(Driver driver) {
     driver.getWebDriver().navigate().refresh();
+    ElementCache.invalidate(driver);
   }
 }
@@ -1,14 +1,45 @@
 package com.codeborne.selenide.drivercommands;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Closes all browsers which are still open when JVM shuts down,
+ * and waits until browsers being closed in background are closed.
+ *
+ * Registered as a shutdown hook only once - when the first browser is opened.
+ */
 public class SelenideDriverFinalCleanupThread extends Thread {
-  private final LazyDriver driver;
+  private static final long BACKGROUND_CLOSE_TIMEOUT_MS = 30_000;
+  private static final SelenideDriverFinalCleanupThread instance = new SelenideDriverFinalCleanupThread();
+
+  static {
+    Runtime.getRuntime().addShutdownHook(instance);
+  }
+
+  private final Set<LazyDriver> drivers = ConcurrentHashMap.newKeySet();
+
+  private SelenideDriverFinalCleanupThread() {
+    super("selenide-driver-final-cleanup");
+  }
+
+  static void register(LazyDriver driver) {
+    instance.drivers.add(driver);
+  }
 
-  SelenideDriverFinalCleanupThread(LazyDriver driver) {
-    this.driver = driver;
+  static void unregister(LazyDriver driver) {
+    instance.drivers.remove(driver);
   }
 
+  /**
+   * Pool is closed first, so that browsers being closed are not cleaned up for reuse.
+   */
   @Override
   public void run() {
-    driver.close();
+    WebDriverPool.instance.closeAll();
+    for (LazyDriver driver : drivers) {
+      driver.close();
+    }
+    CloseDriverCommand.awaitBackgroundClose(BACKGROUND_CLOSE_TIMEOUT_MS);
   }
 }
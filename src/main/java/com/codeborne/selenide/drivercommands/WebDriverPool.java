@@ -0,0 +1,231 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.impl.ElementCache;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import static java.util.Arrays.asList;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Keeps started browsers ready for tests (used if {@code config.driverPoolSize} is greater than 0).
+ *
+ * When the first browser is requested, pool sets up webdriver binary and then starts {@code driverPoolSize} browsers
+ * in parallel in background.
+ * A closed browser is cleaned up and returned to the pool (unless the pool is already full).
+ * Before reuse the browser is checked with {@link BrowserHealthChecker}.
+ *
+ * Browsers are pooled separately for every combination of settings used to start a browser (see {@link #key(Config)}).
+ * If these settings have been changed while the browser was open, it's closed instead of returning to the pool.
+ */
+public class WebDriverPool {
+  private static final Logger log = Logger.getLogger(WebDriverPool.class.getName());
+  private static final String CLEAR_STORAGE = "try {localStorage.clear(); sessionStorage.clear();} catch (e) {}";
+
+  public static WebDriverPool instance = new WebDriverPool(new BrowserHealthChecker());
+
+  private final BrowserHealthChecker browserHealthChecker;
+  private final ExecutorService executor;
+  private final Map<List<Object>, Pool> pools = new ConcurrentHashMap<>();
+  private volatile boolean shutdown;
+
+  WebDriverPool(BrowserHealthChecker browserHealthChecker) {
+    this.browserHealthChecker = browserHealthChecker;
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "selenide-driver-pool-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Takes a started browser from the pool, or starts a new one if the pool is empty.
+   *
+   * @param webDriverBinarySetup downloads webdriver binary - called once before the pool starts browsers in parallel
+   * @param driverFactory starts a new browser
+   */
+  public CreateDriverCommand.Result acquire(Config config, Runnable webDriverBinarySetup,
+                                            Supplier<CreateDriverCommand.Result> driverFactory) {
+    Pool drivers = pools.computeIfAbsent(key(config), key -> new Pool());
+    drivers.start(config.driverPoolSize(), webDriverBinarySetup, driverFactory);
+
+    BlockingDeque<Future<CreateDriverCommand.Result>> pool = drivers.drivers;
+    Future<CreateDriverCommand.Result> pooled;
+    while ((pooled = pool.pollFirst()) != null) {
+      CreateDriverCommand.Result driver = get(pool, pooled);
+      if (driver == null) {
+        continue;
+      }
+      if (browserHealthChecker.isBrowserStillOpen(driver.webDriver)) {
+        log.info("Take webdriver from pool: " + driver.webDriver);
+        return driver;
+      }
+      log.info("Webdriver in pool has been closed meanwhile: " + driver.webDriver);
+      quit(driver);
+    }
+    return driverFactory.get();
+  }
+
+  /**
+   * Browsers started with the same settings.
+   * Pool is created by {@link Map#computeIfAbsent} (which blocks other threads using the map),
+   * and started later - because setting up webdriver binary can take a while.
+   */
+  private class Pool {
+    private final BlockingDeque<Future<CreateDriverCommand.Result>> drivers = new LinkedBlockingDeque<>();
+    private volatile boolean started;
+
+    private void start(int count, Runnable webDriverBinarySetup, Supplier<CreateDriverCommand.Result> driverFactory) {
+      if (started) {
+        return;
+      }
+      synchronized (this) {
+        if (started) {
+          return;
+        }
+        setupWebDriverBinary(webDriverBinarySetup);
+        log.info("Start " + count + " webdrivers in background");
+        for (int i = 0; i < count; i++) {
+          drivers.add(executor.submit(driverFactory::get));
+        }
+        started = true;
+      }
+    }
+  }
+
+  /**
+   * Browsers started in parallel would race for downloading the same binary, so it's done once in advance.
+   * If it failed, every browser will try again and report the error.
+   */
+  private void setupWebDriverBinary(Runnable webDriverBinarySetup) {
+    try {
+      webDriverBinarySetup.run();
+    }
+    catch (RuntimeException e) {
+      log.log(WARNING, "Failed to setup webdriver binary", e);
+    }
+  }
+
+  private CreateDriverCommand.Result get(BlockingDeque<Future<CreateDriverCommand.Result>> pool,
+                                         Future<CreateDriverCommand.Result> pooled) {
+    try {
+      return pooled.get();
+    }
+    catch (ExecutionException e) {
+      log.log(WARNING, "Failed to start webdriver in background", e.getCause());
+      return null;
+    }
+    catch (InterruptedException e) {
+      pool.addFirst(pooled);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for webdriver", e);
+    }
+  }
+
+  /**
+   * Returns the browser to the pool: closes all windows except one, deletes cookies, clears storage of current page
+   * and resets proxy filters. If the pool is full or the browser cannot be cleaned up, it's closed.
+   * After {@link #closeAll()} browsers are closed without cleaning up.
+   */
+  public void release(Config config, CreateDriverCommand.Result driver) {
+    Pool drivers = pools.get(key(config));
+    BlockingDeque<Future<CreateDriverCommand.Result>> pool = drivers == null ? null : drivers.drivers;
+    if (shutdown || pool == null || pool.size() >= config.driverPoolSize() ||
+        !reset(config, driver) || !returnToPool(pool, driver)) {
+      new CloseDriverCommand(driver.webDriver, driver.selenideProxyServer, config.closeBrowserInBackground()).run();
+    }
+  }
+
+  private synchronized boolean returnToPool(BlockingDeque<Future<CreateDriverCommand.Result>> pool,
+                                            CreateDriverCommand.Result driver) {
+    if (shutdown) {
+      return false;
+    }
+    log.info("Return webdriver to pool: " + driver.webDriver);
+    pool.addLast(CompletableFuture.completedFuture(driver));
+    return true;
+  }
+
+  private boolean reset(Config config, CreateDriverCommand.Result driver) {
+    WebDriver webDriver = driver.webDriver;
+    try {
+      String window = webDriver.getWindowHandle();
+      for (String handle : webDriver.getWindowHandles()) {
+        if (!handle.equals(window)) {
+          webDriver.switchTo().window(handle).close();
+        }
+      }
+      webDriver.switchTo().window(window);
+      webDriver.manage().deleteAllCookies();
+      if (webDriver instanceof JavascriptExecutor) {
+        ((JavascriptExecutor) webDriver).executeScript(CLEAR_STORAGE);
+      }
+      webDriver.navigate().to("about:blank");
+      ElementCache.invalidate(config, webDriver);
+    }
+    catch (WebDriverException e) {
+      log.info("Failed to clean up webdriver " + webDriver + ": " + e);
+      return false;
+    }
+
+    if (driver.selenideProxyServer != null && !driver.selenideProxyServer.resetFilters()) {
+      log.info("Cannot reuse webdriver " + webDriver + " because custom proxy filters have been added");
+      return false;
+    }
+    return true;
+  }
+
+  private void quit(CreateDriverCommand.Result driver) {
+    new CloseDriverCommand(driver.webDriver, driver.selenideProxyServer).run();
+  }
+
+  /**
+   * Closes all browsers in pool. Browsers returned to the pool after that are closed immediately.
+   * Called by {@link SelenideDriverFinalCleanupThread} when JVM shuts down.
+   */
+  synchronized void closeAll() {
+    shutdown = true;
+    for (Pool drivers : pools.values()) {
+      Future<CreateDriverCommand.Result> pooled;
+      while ((pooled = drivers.drivers.pollFirst()) != null) {
+        try {
+          quit(pooled.get());
+        }
+        catch (ExecutionException ignore) {
+          // failed to start - nothing to close
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return all settings used to start a browser (including its preferences like downloads folder)
+   */
+  static List<Object> key(Config config) {
+    return asList(config.browser(), config.headless(), config.remote(), config.browserSize(), config.browserVersion(),
+      config.browserPosition(), config.startMaximized(), config.driverManagerEnabled(), config.browserBinary(),
+      config.pageLoadStrategy(), String.valueOf(config.browserCapabilities()), config.fileDownload(),
+      config.downloadsFolder(), config.proxyEnabled(), config.proxyHost(), config.proxyPort());
+  }
+}
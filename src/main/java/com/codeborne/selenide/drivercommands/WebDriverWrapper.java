@@ -3,6 +3,7 @@ package com.codeborne.selenide.drivercommands;
 import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
 import org.openqa.selenium.WebDriver;
 
@@ -10,6 +11,7 @@ public class WebDriverWrapper implements Driver {
   private final Config config;
   private final WebDriver webDriver;
   private final SelenideProxyServer selenideProxy;
+  private final Commands commands = new Commands(Commands.getInstance());
 
   public WebDriverWrapper(Config config, WebDriver webDriver, SelenideProxyServer selenideProxy) {
     this.config = config;
@@ -22,6 +24,11 @@ public class WebDriverWrapper implements Driver {
     return config;
   }
 
+  @Override
+  public Commands commands() {
+    return commands;
+  }
+
   @Override
   public Browser browser() {
     return new Browser(config.browser(), config.headless());
@@ -15,7 +15,7 @@ public class ElementShould extends UIAssertionError {
 
   public ElementShould(Driver driver, String searchCriteria, String prefix, String message, Condition expectedCondition,
                        WebElement element, Throwable lastError) {
-    super(driver,
+    super(driver, () ->
       "Element should " + prefix + expectedCondition + " {" + searchCriteria + "}" +
         (message != null ? " because " + message : "") +
         "\nElement: '" + Describe.describe(driver, element) + '\'' +
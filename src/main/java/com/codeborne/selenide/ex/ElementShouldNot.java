@@ -10,7 +10,7 @@ import static com.codeborne.selenide.ex.ErrorMessages.actualValue;
 public class ElementShouldNot extends UIAssertionError {
   public ElementShouldNot(Driver driver, String searchCriteria, String prefix, String message, Condition expectedCondition,
                           WebElement element, Throwable lastError) {
-    super(driver,
+    super(driver, () ->
       "Element should not " + prefix + expectedCondition + " {" + searchCriteria + '}' +
         (message != null ? " because " + message : "") +
         "\nElement: '" + Describe.describe(driver, element) + '\'' +
@@ -11,7 +11,7 @@ import static com.codeborne.selenide.ElementsCollection.elementsToString;
 public class ListSizeMismatch extends UIAssertionError {
   public ListSizeMismatch(Driver driver, String operator, int expectedSize, String explanation, WebElementsCollection collection,
                           List<WebElement> actualElements, Exception lastError, long timeoutMs) {
-    super(driver,
+    super(driver, () ->
       ": expected: " + operator + " " + expectedSize +
         (explanation == null ? "" : " (because " + explanation + ")") +
         ", actual: " + (actualElements == null ? 0 : actualElements.size()) +
@@ -3,15 +3,24 @@ package com.codeborne.selenide.ex;
 import com.codeborne.selenide.impl.WebElementsCollection;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 public class TextsMismatch extends UIAssertionError {
   public TextsMismatch(WebElementsCollection collection, List<String> actualTexts,
                        List<String> expectedTexts, String explanation, long timeoutMs) {
-    super(collection.driver(),
-      "\nActual: " + actualTexts +
+    this(collection, () -> actualTexts, expectedTexts, explanation, timeoutMs);
+  }
+
+  /**
+   * @param actualTexts reads texts of collection elements when error message is needed
+   */
+  public TextsMismatch(WebElementsCollection collection, Supplier<List<String>> actualTexts,
+                       List<String> expectedTexts, String explanation, long timeoutMs) {
+    super(collection.driver(), () ->
+      "\nActual: " + actualTexts.get() +
         "\nExpected: " + expectedTexts +
         (explanation == null ? "" : "\nBecause: " + explanation) +
-        "\nCollection: " + collection.description());
+        "\nCollection: " + collection.description(), null);
     super.timeoutMs = timeoutMs;
   }
 
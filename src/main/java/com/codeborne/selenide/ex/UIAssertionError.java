@@ -4,6 +4,8 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.ScreenShotLaboratory;
 
+import java.util.function.Supplier;
+
 import static com.codeborne.selenide.ex.ErrorMessages.causedBy;
 import static com.codeborne.selenide.ex.ErrorMessages.screenshot;
 import static com.codeborne.selenide.ex.ErrorMessages.timeout;
@@ -15,6 +17,12 @@ public class UIAssertionError extends AssertionError {
   private String screenshot;
   public long timeoutMs;
 
+  /**
+   * Builds message on demand (see {@link #UIAssertionError(Driver, Supplier, Throwable)})
+   */
+  private transient Supplier<String> messageBuilder;
+  private String message;
+
   public UIAssertionError(Driver driver, Throwable cause) {
     this(driver, cause.getClass().getSimpleName() + ": " + cause.getMessage(), cause);
   }
@@ -29,6 +37,39 @@ public class UIAssertionError extends AssertionError {
     this.driver = driver;
   }
 
+  /**
+   * Creates error with a message which is built only when it's requested (or when the error is reported - see
+   * {@link #wrap(Driver, Error, long)}). Errors of intermediate checks are thrown and caught until timeout,
+   * so building their messages (which requires extra calls to browser) is a waste of time.
+   *
+   * If {@code config.eagerErrorMessages} is enabled, message is built immediately.
+   */
+  protected UIAssertionError(Driver driver, Supplier<String> message, Throwable cause) {
+    super(null, cause);
+    this.driver = driver;
+    this.messageBuilder = message;
+    if (isEagerErrorMessages(driver)) {
+      buildMessage();
+    }
+  }
+
+  private static boolean isEagerErrorMessages(Driver driver) {
+    return driver != null && driver.config() != null && driver.config().eagerErrorMessages();
+  }
+
+  @Override
+  public String getMessage() {
+    buildMessage();
+    return message == null ? super.getMessage() : message;
+  }
+
+  private synchronized void buildMessage() {
+    if (messageBuilder != null) {
+      message = messageBuilder.get();
+      messageBuilder = null;
+    }
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + " " + getLocalizedMessage() + uiDetails();
@@ -57,6 +98,7 @@ public class UIAssertionError extends AssertionError {
   private static Error wrapThrowable(Driver driver, Throwable error, long timeoutMs) {
     UIAssertionError uiError = error instanceof UIAssertionError ? (UIAssertionError) error : new UIAssertionError(driver, error);
     uiError.timeoutMs = timeoutMs;
+    uiError.buildMessage();
     uiError.screenshot = ScreenShotLaboratory.getInstance().formatScreenShotPath(driver);
     return uiError;
   }
@@ -4,11 +4,21 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+import static java.util.logging.Level.FINE;
 
 public class BySelectorCollection implements WebElementsCollection {
+  private static final Logger log = Logger.getLogger(BySelectorCollection.class.getName());
+
+  private static final String COUNT_BY_CSS = "return (arguments[1] || document).querySelectorAll(arguments[0]).length;";
+  private static final String COUNT_BY_XPATH = "return document.evaluate(arguments[0], arguments[1] || document, null," +
+      " XPathResult.UNORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;";
 
   private final Driver driver;
   private final SearchContext parent;
@@ -30,6 +40,38 @@ public class BySelectorCollection implements WebElementsCollection {
     return WebElementSelector.instance.findElements(driver, searchContext, selector);
   }
 
+  /**
+   * Counts elements with a single JavaScript call, without transferring references to all elements from webdriver.
+   * Only plain CSS and XPath selectors are counted in browser, other selectors are counted by fetching elements.
+   */
+  @Override
+  public int size() {
+    String script = countScript();
+    if (script != null && driver.supportsJavascript() && (parent == null || parent instanceof WebElement)) {
+      try {
+        WebElement context = parent instanceof SelenideElement ? ((SelenideElement) parent).toWebElement() : (WebElement) parent;
+        Number count = driver.executeJavaScript(script, WebElementSelector.selectorValue(selector), context);
+        if (count != null) {
+          return count.intValue();
+        }
+      }
+      catch (WebDriverException e) {
+        log.log(FINE, "Failed to count elements " + description() + " in browser", e);
+      }
+    }
+    return getElements().size();
+  }
+
+  private String countScript() {
+    if (selector.getClass() == By.ByCssSelector.class && driver.config().selectorMode() != Sizzle) {
+      return COUNT_BY_CSS;
+    }
+    if (selector.getClass() == By.ByXPath.class) {
+      return COUNT_BY_XPATH;
+    }
+    return null;
+  }
+
   @Override
   public String description() {
     return parent == null ? Describe.selector(selector) :
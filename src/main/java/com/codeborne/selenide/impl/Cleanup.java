@@ -1,5 +1,6 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.ex.UIAssertionError;
 import org.openqa.selenium.InvalidSelectorException;
 
 public class Cleanup {
@@ -22,6 +23,9 @@ public class Cleanup {
   public boolean isInvalidSelectorError(Throwable error) {
     if (error == null) return false;
 
+    // Message of UI assertion describes the element (it's built on demand), and only its cause can be caused by invalid selector
+    if (error instanceof UIAssertionError) return error.getCause() != error && isInvalidSelectorError(error.getCause());
+
     String message = error.getMessage();
     if (message == null) return false;
 
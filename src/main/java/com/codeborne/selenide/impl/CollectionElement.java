@@ -6,23 +6,32 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.WebElement;
 
-import java.lang.reflect.Proxy;
-
 import static com.codeborne.selenide.Condition.visible;
 
 public class CollectionElement extends WebElementSource {
   public static SelenideElement wrap(WebElementsCollection collection, int index) {
-    return (SelenideElement) Proxy.newProxyInstance(
-        collection.getClass().getClassLoader(), new Class<?>[]{SelenideElement.class},
-        new SelenideElementProxy(new CollectionElement(collection, index)));
+    return wrap(collection, index, null);
+  }
+
+  /**
+   * @param element already found element of the collection (or null). It's used until any command on it fails.
+   */
+  public static SelenideElement wrap(WebElementsCollection collection, int index, WebElement element) {
+    return SelenideElementProxy.wrap(SelenideElement.class, new CollectionElement(collection, index, element));
   }
 
   private final WebElementsCollection collection;
   private final int index;
+  private volatile WebElement element;
 
   CollectionElement(WebElementsCollection collection, int index) {
+    this(collection, index, null);
+  }
+
+  CollectionElement(WebElementsCollection collection, int index, WebElement element) {
     this.collection = collection;
     this.index = index;
+    this.element = element;
   }
 
   @Override
@@ -32,7 +41,13 @@ public class CollectionElement extends WebElementSource {
 
   @Override
   public WebElement getWebElement() {
-    return collection.getElements().get(index);
+    WebElement found = element;
+    return found != null ? found : collection.getElements().get(index);
+  }
+
+  @Override
+  public void forgetCachedElement() {
+    element = null;
   }
 
   @Override
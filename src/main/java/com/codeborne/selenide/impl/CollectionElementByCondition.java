@@ -6,17 +6,12 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.WebElement;
 
-import java.lang.reflect.Proxy;
-import java.util.List;
-
 import static com.codeborne.selenide.Condition.visible;
 
 public class CollectionElementByCondition extends WebElementSource {
 
   public static SelenideElement wrap(WebElementsCollection collection, Condition condition) {
-    return (SelenideElement) Proxy.newProxyInstance(
-        collection.getClass().getClassLoader(), new Class<?>[]{SelenideElement.class},
-        new SelenideElementProxy(new CollectionElementByCondition(collection, condition)));
+    return SelenideElementProxy.wrap(SelenideElement.class, new CollectionElementByCondition(collection, condition));
   }
 
   private final WebElementsCollection collection;
@@ -34,15 +29,11 @@ public class CollectionElementByCondition extends WebElementSource {
 
   @Override
   public WebElement getWebElement() {
-    List<WebElement> list = collection.getElements();
-
-    for (WebElement element : list) {
-      if (condition.apply(driver(), element)) {
-        return element;
-      }
+    WebElement element = ConditionCompiler.instance.findFirst(driver(), collection.getElements(), condition);
+    if (element == null) {
+      throw new ElementNotFound(driver(), getSearchCriteria(), condition);
     }
-
-    throw new ElementNotFound(driver(), getSearchCriteria(), condition);
+    return element;
   }
 
   @Override
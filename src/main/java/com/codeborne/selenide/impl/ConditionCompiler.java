@@ -0,0 +1,268 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.FINE;
+
+/**
+ * Checks conditions in browser.
+ *
+ * If {@code config.conditionsViaJs} is enabled, condition tree is compiled to a single script
+ * (see {@link Condition#toJavaScript()}), and one or many elements are checked with a single JavaScript call.
+ * Conditions without JavaScript form (and all conditions if the option is disabled) are checked in Java.
+ *
+ * Verdict of the browser is final. If a single element doesn't match the condition in browser,
+ * the condition is checked in Java only once - when the error message is built (see {@link #explain}),
+ * so that it contains the same details as usually.
+ */
+public class ConditionCompiler {
+  private static final Logger log = Logger.getLogger(ConditionCompiler.class.getName());
+
+  public static ConditionCompiler instance = new ConditionCompiler();
+
+  /**
+   * Helper functions available for {@link Condition#toJavaScript()} expressions.
+   * They mimic Selenium methods {@code isDisplayed()}, {@code getText()}, {@code getAttribute()} and {@code getCssValue()}.
+   */
+  static final String FUNCTIONS = "" +
+      "var BOOLEAN_ATTRIBUTES = ['async', 'autofocus', 'autoplay', 'checked', 'compact', 'complete', 'controls'," +
+      "  'declare', 'defaultchecked', 'defaultselected', 'defer', 'disabled', 'ended', 'formnovalidate', 'hidden'," +
+      "  'indeterminate', 'iscontenteditable', 'ismap', 'itemscope', 'loop', 'multiple', 'muted', 'nohref'," +
+      "  'noresize', 'noshade', 'novalidate', 'nowrap', 'open', 'paused', 'pubdate', 'readonly', 'required'," +
+      "  'reversed', 'scoped', 'seamless', 'seeking', 'selected', 'truespeed', 'willvalidate'];" +
+      "var PROPERTY_ALIASES = {'class': 'className', 'readonly': 'readOnly'};" +
+      "function visible(e) {" +
+      "  var tagName = e.tagName.toLowerCase();" +
+      "  if (tagName == 'option' || tagName == 'optgroup') {" +
+      "    var select = e.closest('select');" +
+      "    return !select || visible(select);" +
+      "  }" +
+      "  if (e.getClientRects().length == 0 || window.getComputedStyle(e).visibility == 'hidden') return false;" +
+      "  for (var p = e; p && p.nodeType == 1; p = p.parentNode) {" +
+      "    if (window.getComputedStyle(p).opacity == '0') return false;" +
+      "  }" +
+      "  return true;" +
+      "}" +
+      "function norm(text) {" +
+      "  return (text == null ? '' : String(text)).replace(/[ \\t\\n\\u000B\\f\\r\\u00a0]+/g, ' ').replace(/^ | $/g, '');" +
+      "}" +
+      "function text(e) {" +
+      "  return visible(e) ? (typeof e.innerText == 'string' ? e.innerText : e.textContent) : '';" +
+      "}" +
+      "function selectedText(e) {" +
+      "  if (e.tagName.toLowerCase() != 'select') return text(e);" +
+      "  var result = '';" +
+      "  for (var i = 0; i < e.options.length; i++) {" +
+      "    if (e.options[i].selected) result += norm(e.options[i].text);" +
+      "  }" +
+      "  return result;" +
+      "}" +
+      "function contains(text, subtext) {" +
+      "  return norm(text).toLowerCase().indexOf(norm(subtext).toLowerCase()) >= 0;" +
+      "}" +
+      "function attr(e, name) {" +
+      "  var lowerCaseName = name.toLowerCase();" +
+      "  var property = e[PROPERTY_ALIASES[lowerCaseName] || name];" +
+      "  if (BOOLEAN_ATTRIBUTES.indexOf(lowerCaseName) >= 0) return (e.hasAttribute(name) || !!property) ? 'true' : null;" +
+      "  var value = property != null && typeof property != 'object' && typeof property != 'function' ?" +
+      "    property : e.getAttribute(name);" +
+      "  return value == null ? null : String(value);" +
+      "}" +
+      "function hasClass(e, className) {" +
+      "  var classes = attr(e, 'class');" +
+      "  return classes != null && classes.split(' ').indexOf(className) >= 0;" +
+      "}" +
+      "function css(e, property) {" +
+      "  var value = window.getComputedStyle(e).getPropertyValue(property) || e.style[property] || '';" +
+      "  return value.replace(/^rgb\\((\\d+), (\\d+), (\\d+)\\)$/, 'rgba($1, $2, $3, 1)');" +
+      "}";
+
+  /**
+   * Checks if element matches given condition
+   */
+  public boolean apply(Driver driver, WebElement element, Condition condition) {
+    Boolean matches = applyInBrowser(driver, element, condition);
+    return matches != null ? matches : condition.apply(driver, element);
+  }
+
+  /**
+   * @return true or false if element was checked in browser,
+   * or null if the condition can be checked only in Java (or the script failed)
+   */
+  public Boolean applyInBrowser(Driver driver, WebElement element, Condition condition) {
+    String expression = compile(driver, condition);
+    return expression == null ? null :
+        execute(driver, FUNCTIONS + "var e = arguments[0]; return !!(" + expression + ");", element);
+  }
+
+  /**
+   * Wraps condition which didn't match the element in browser (see {@link #applyInBrowser}) for error message.
+   *
+   * Conditions like {@link Condition#and} know which part failed only after they have been checked in Java.
+   * The wrapper checks element in Java once, lazily - right before the description or actual value is needed.
+   */
+  public Condition explain(Driver driver, WebElement element, Condition condition) {
+    return new CheckedInBrowser(driver, element, condition);
+  }
+
+  /**
+   * @return elements matching given condition
+   */
+  public List<WebElement> filter(Driver driver, List<WebElement> elements, Condition condition) {
+    String expression = elements.isEmpty() ? null : compile(driver, condition);
+    if (expression != null) {
+      List<Boolean> matches = execute(driver, FUNCTIONS +
+          "var elements = arguments[0], matches = [];" +
+          "for (var i = 0; i < elements.length; i++) {" +
+          "  var e = elements[i];" +
+          "  matches.push(!!(" + expression + "));" +
+          "}" +
+          "return matches;", elements);
+      if (matches != null) {
+        List<WebElement> result = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+          if (matches.get(i)) {
+            result.add(elements.get(i));
+          }
+        }
+        return result;
+      }
+    }
+
+    List<WebElement> result = new ArrayList<>(elements.size());
+    for (WebElement element : elements) {
+      if (condition.apply(driver, element)) {
+        result.add(element);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the first element matching given condition, or null if no elements match
+   */
+  public WebElement findFirst(Driver driver, List<WebElement> elements, Condition condition) {
+    String expression = elements.isEmpty() ? null : compile(driver, condition);
+    if (expression != null) {
+      Number index = execute(driver, FUNCTIONS +
+          "var elements = arguments[0];" +
+          "for (var i = 0; i < elements.length; i++) {" +
+          "  var e = elements[i];" +
+          "  if (" + expression + ") return i;" +
+          "}" +
+          "return -1;", elements);
+      if (index != null) {
+        return index.intValue() < 0 ? null : elements.get(index.intValue());
+      }
+    }
+
+    for (WebElement element : elements) {
+      if (condition.apply(driver, element)) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  private String compile(Driver driver, Condition condition) {
+    return driver.config().conditionsViaJs() && driver.supportsJavascript() ? condition.toJavaScript() : null;
+  }
+
+  /**
+   * @return result of the script, or null if it failed (e.g. element became stale) - then condition is checked in Java
+   */
+  private <T> T execute(Driver driver, String script, Object argument) {
+    try {
+      return driver.executeJavaScript(script, argument);
+    }
+    catch (WebDriverException e) {
+      log.log(FINE, "Failed to check condition in browser", e);
+      return null;
+    }
+  }
+
+  private static class CheckedInBrowser extends Condition {
+    private final Driver driver;
+    private final WebElement element;
+    private final Condition delegate;
+    private boolean checkedInJava;
+
+    private CheckedInBrowser(Driver driver, WebElement element, Condition delegate) {
+      super(delegate.toString(), delegate.applyNull());
+      this.driver = driver;
+      this.element = element;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean apply(Driver driver, WebElement element) {
+      return delegate.apply(driver, element);
+    }
+
+    @Override
+    public String actualValue(Driver driver, WebElement element) {
+      checkInJava();
+      return delegate.actualValue(driver, element);
+    }
+
+    @Override
+    public String toJavaScript() {
+      return delegate.toJavaScript();
+    }
+
+    @Override
+    public String toString() {
+      checkInJava();
+      return delegate.toString();
+    }
+
+    private synchronized void checkInJava() {
+      if (!checkedInJava) {
+        checkedInJava = true;
+        try {
+          delegate.apply(driver, element);
+        }
+        catch (WebDriverException | IndexOutOfBoundsException e) {
+          log.log(FINE, "Failed to check condition in Java", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return JavaScript string literal with given text
+   */
+  public static String quote(String text) {
+    StringBuilder sb = new StringBuilder(text.length() + 2).append('\'');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '\'':
+        case '\\':
+          sb.append('\\').append(c);
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        default:
+          if (c < ' ' || c == '\u2028' || c == '\u2029') {
+            sb.append(String.format("\\u%04x", (int) c));
+          }
+          else {
+            sb.append(c);
+          }
+      }
+    }
+    return sb.append('\'').toString();
+  }
+}
@@ -7,19 +7,61 @@ import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
+import static java.util.Collections.singletonList;
+
+/**
+ * Describes web elements for error messages, like {@code <input id="name" type="text" value="John"></input>}.
+ *
+ * If browser supports JavaScript, all the details (tag, attributes, value, text, selected and displayed state)
+ * of one or many elements are read with a single JavaScript call.
+ * Otherwise (or if the call fails) every detail is read by a separate webdriver call.
+ */
 public class Describe {
+  private static final String DESCRIBE_ELEMENTS = ConditionCompiler.FUNCTIONS +
+      "function describe(e) {" +
+      "  var attributes = {};" +
+      "  for (var i = 0; i < e.attributes.length; i++) {" +
+      "    var a = e.attributes[i];" +
+      "    if (a.name != 'style') {" +
+      "      attributes[a.name] = a.value;" +
+      "    }" +
+      "  }" +
+      "  var displayed = visible(e);" +
+      "  return {" +
+      "    tagName: e.tagName.toLowerCase()," +
+      "    attributes: attributes," +
+      "    value: attr(e, 'value')," +
+      "    type: attr(e, 'type')," +
+      "    text: text(e).replace(/^[\\s\\u00a0]+|[\\s\\u00a0]+$/g, '')," +
+      "    selected: !!(e.selected || e.checked)," +
+      "    displayed: displayed" +
+      "  };" +
+      "}" +
+      "var elements = arguments[0], descriptions = [];" +
+      "for (var i = 0; i < elements.length; i++) {" +
+      "  descriptions.push(describe(elements[i]));" +
+      "}" +
+      "return descriptions;";
+
   private final Driver driver;
   private final WebElement element;
   private final StringBuilder sb = new StringBuilder();
 
   private Describe(Driver driver, WebElement element) {
+    this(driver, element, element.getTagName());
+  }
+
+  private Describe(Driver driver, WebElement element, String tagName) {
     this.driver = driver;
     this.element = element;
-    sb.append('<').append(element.getTagName());
+    sb.append('<').append(tagName);
   }
 
   private Describe appendAttributes() {
@@ -45,13 +87,18 @@ public class Describe {
             "}" +
             "return s;", element);
 
+    String type = map != null && map.containsKey("type") ? null : element.getAttribute("type");
+    return appendAttributes(map, element.getAttribute("value"), type);
+  }
+
+  private Describe appendAttributes(Map<String, String> attributes, String value, String type) {
     SortedMap<String, String> sortedByName = new TreeMap<>();
-    if (map != null) {
-      sortedByName.putAll(map);
+    if (attributes != null) {
+      sortedByName.putAll(attributes);
     }
-    sortedByName.put("value", element.getAttribute("value"));
+    sortedByName.put("value", value);
     if (!sortedByName.containsKey("type")) {
-      sortedByName.put("type", element.getAttribute("type"));
+      sortedByName.put("type", type);
     }
 
     for (Map.Entry<String, String> entry : sortedByName.entrySet()) {
@@ -67,6 +114,10 @@ public class Describe {
   }
 
   private boolean supportsJavascriptAttributes() {
+    return supportsJavascriptAttributes(driver);
+  }
+
+  private static boolean supportsJavascriptAttributes(Driver driver) {
     return driver.supportsJavascript() && !driver.browser().isHtmlUnit();
   }
 
@@ -98,10 +149,70 @@ public class Describe {
   }
 
   public static String describe(Driver driver, WebElement element) {
-    try {
-      if (element == null) {
-        return "null";
+    if (element == null) {
+      return "null";
+    }
+    List<String> descriptions = describeViaJavaScript(driver, singletonList(element));
+    return descriptions != null ? descriptions.get(0) : describeOneByOne(driver, element);
+  }
+
+  /**
+   * @return descriptions of given elements (read with a single JavaScript call if possible)
+   */
+  public static List<String> describe(Driver driver, Collection<WebElement> elements) {
+    List<WebElement> list = new ArrayList<>(elements);
+    List<String> descriptions = list.isEmpty() ? null : describeViaJavaScript(driver, list);
+    if (descriptions == null) {
+      descriptions = new ArrayList<>(list.size());
+      for (WebElement element : list) {
+        descriptions.add(element == null ? "null" : describeOneByOne(driver, element));
       }
+    }
+    return descriptions;
+  }
+
+  /**
+   * @return null if browser doesn't support JavaScript or the script failed (e.g. some element is stale)
+   */
+  private static List<String> describeViaJavaScript(Driver driver, List<WebElement> elements) {
+    if (!supportsJavascriptAttributes(driver) || elements.contains(null)) {
+      return null;
+    }
+    Object details;
+    try {
+      details = driver.executeJavaScript(DESCRIBE_ELEMENTS, elements);
+    }
+    catch (WebDriverException | UnsupportedOperationException e) {
+      return null;
+    }
+    if (!(details instanceof List) || ((List<?>) details).size() != elements.size()) {
+      return null;
+    }
+
+    List<String> descriptions = new ArrayList<>(elements.size());
+    for (int i = 0; i < elements.size(); i++) {
+      descriptions.add(describe(driver, elements.get(i), (Map<?, ?>) ((List<?>) details).get(i)));
+    }
+    return descriptions;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String describe(Driver driver, WebElement element, Map<?, ?> details) {
+    String tagName = (String) details.get("tagName");
+    Describe describe = new Describe(driver, element, tagName).appendAttributes(
+        (Map<String, String>) details.get("attributes"), (String) details.get("value"), (String) details.get("type"));
+    if (Boolean.TRUE.equals(details.get("selected"))) {
+      describe.sb.append(' ').append("selected:true");
+    }
+    if (Boolean.FALSE.equals(details.get("displayed"))) {
+      describe.sb.append(' ').append("displayed:false");
+    }
+    Object text = details.get("text");
+    return describe.sb.append('>').append(text == null ? "" : text).append("</").append(tagName).append('>').toString();
+  }
+
+  private static String describeOneByOne(Driver driver, WebElement element) {
+    try {
       return new Describe(driver, element)
           .appendAttributes()
           .isSelected(element)
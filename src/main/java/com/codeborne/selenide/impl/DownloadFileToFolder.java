@@ -0,0 +1,187 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.webdriver.DownloadsFolders;
+import org.openqa.selenium.WebElement;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static java.lang.System.currentTimeMillis;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Downloads file by clicking the element and waiting until browser saves it to {@code config.downloadsFolder}
+ * (used if {@code config.fileDownload} is FOLDER). Every browser uses its own subfolder, see {@link DownloadsFolders}.
+ *
+ * Instead of polling the folder, it waits for file system events (see {@link WatchService}).
+ * A new file is considered downloaded when browser has given it the final name,
+ * no new temporary files (like ".crdownload" in Chrome or ".part" in Firefox) remain in the folder,
+ * and the file has not changed for {@link #SETTLE_MS}. The last check matters for Firefox: it creates an empty file
+ * with the final name slightly before the ".part" file, so the empty file alone doesn't mean the download is over.
+ * Then the file is moved to a unique folder inside {@code config.reportsFolder} - like in other download modes.
+ */
+public class DownloadFileToFolder {
+  private static final Logger log = Logger.getLogger(DownloadFileToFolder.class.getName());
+
+  /**
+   * On some platforms (e.g. MacOS) {@link WatchService} has no native implementation and notices changes
+   * only after several seconds, so we also check the folder at least once per this interval.
+   */
+  private static final long MAX_EVENT_WAIT_MS = 1000;
+
+  /**
+   * How long a new file should stay unchanged (with no temporary files around) to be considered downloaded.
+   */
+  static final long SETTLE_MS = 500;
+
+  private static final List<String> TEMPORARY_FILE_EXTENSIONS = asList(".crdownload", ".part", ".partial", ".tmp");
+
+  private final Downloader downloader;
+  private final DownloadsFolders downloadsFolders;
+
+  public DownloadFileToFolder() {
+    this(new Downloader(), DownloadsFolders.instance);
+  }
+
+  DownloadFileToFolder(Downloader downloader, DownloadsFolders downloadsFolders) {
+    this.downloader = downloader;
+    this.downloadsFolders = downloadsFolders;
+  }
+
+  public File download(WebElementSource anyClickableElement, WebElement clickable, long timeout) throws IOException {
+    Driver driver = anyClickableElement.driver();
+    Config config = driver.config();
+    File folder = downloadsFolders.folder(config, driver.getWebDriver());
+    if (!folder.isDirectory() && !folder.mkdirs()) {
+      throw new RuntimeException("Failed to create folder " + folder.getAbsolutePath());
+    }
+
+    Path folderPath = folder.toPath();
+    try (WatchService watchService = folderPath.getFileSystem().newWatchService()) {
+      folderPath.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+      Set<String> existingFiles = fileNames(folder);
+
+      clickable.click();
+
+      File file = waitForDownloadedFile(watchService, folder, existingFiles, timeout);
+      if (file == null) {
+        throw new FileNotFoundException("Failed to download file " + anyClickableElement +
+          " in " + timeout + " ms. Folder: " + folder.getAbsolutePath());
+      }
+      return moveToReportsFolder(config, file);
+    }
+  }
+
+  private File waitForDownloadedFile(WatchService watchService, File folder, Set<String> existingFiles, long timeout) {
+    long deadline = currentTimeMillis() + timeout;
+    FileState candidate = null;
+    for (long now = currentTimeMillis(); ; now = currentTimeMillis()) {
+      File file = findDownloadedFile(folder, existingFiles);
+      if (file == null) {
+        candidate = null;
+      }
+      else if (candidate == null || !candidate.isSame(file)) {
+        candidate = new FileState(file, now);
+      }
+      else if (now - candidate.since >= SETTLE_MS) {
+        return file;
+      }
+
+      long remaining = deadline - now;
+      if (remaining <= 0) {
+        return null;
+      }
+      long wait = candidate == null ? MAX_EVENT_WAIT_MS : candidate.since + SETTLE_MS - now;
+      awaitChanges(watchService, Math.max(1, Math.min(remaining, wait)));
+    }
+  }
+
+  private void awaitChanges(WatchService watchService, long timeoutMs) {
+    try {
+      for (WatchKey key = watchService.poll(timeoutMs, MILLISECONDS); key != null; key = watchService.poll()) {
+        key.pollEvents();
+        key.reset();
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * @return the latest new file, or null if there are no new files or some of them are still being downloaded
+   */
+  private File findDownloadedFile(File folder, Set<String> existingFiles) {
+    File[] files = folder.listFiles();
+    if (files == null) return null;
+
+    File downloadedFile = null;
+    for (File file : files) {
+      if (existingFiles.contains(file.getName()) || !file.isFile()) continue;
+      if (isTemporary(file.getName())) return null;
+      if (downloadedFile == null || file.lastModified() > downloadedFile.lastModified()) {
+        downloadedFile = file;
+      }
+    }
+    return downloadedFile;
+  }
+
+  private boolean isTemporary(String fileName) {
+    for (String extension : TEMPORARY_FILE_EXTENSIONS) {
+      if (fileName.endsWith(extension)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Set<String> fileNames(File folder) {
+    Set<String> names = new HashSet<>();
+    String[] files = folder.list();
+    if (files != null) {
+      names.addAll(asList(files));
+    }
+    return names;
+  }
+
+  private static class FileState {
+    private final String name;
+    private final long length;
+    private final long lastModified;
+    private final long since;
+
+    private FileState(File file, long since) {
+      this.name = file.getName();
+      this.length = file.length();
+      this.lastModified = file.lastModified();
+      this.since = since;
+    }
+
+    private boolean isSame(File file) {
+      return name.equals(file.getName()) && length == file.length() && lastModified == file.lastModified();
+    }
+  }
+
+  private File moveToReportsFolder(Config config, File file) throws IOException {
+    File target = downloader.prepareTargetFile(config, file.getName());
+    Files.move(file.toPath(), target.toPath());
+    log.info("Downloaded file: " + target.getAbsolutePath());
+    return target;
+  }
+}
@@ -7,6 +7,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.CookieStore;
 import org.apache.http.client.config.CookieSpecs;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
@@ -16,6 +17,7 @@ import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
@@ -24,6 +26,7 @@ import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.TrustStrategy;
+import org.apache.http.util.EntityUtils;
 import org.openqa.selenium.WebElement;
 
 import javax.net.ssl.HostnameVerifier;
@@ -33,10 +36,19 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import static com.codeborne.selenide.impl.Describe.describe;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.commons.io.FileUtils.copyInputStreamToFile;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.http.client.protocol.HttpClientContext.COOKIE_STORE;
@@ -44,10 +56,26 @@ import static org.apache.http.client.protocol.HttpClientContext.COOKIE_STORE;
 public class DownloadFileWithHttpRequest {
   private static final Logger log = Logger.getLogger(DownloadFileWithHttpRequest.class.getName());
 
+  /**
+   * Downloads are made by a shared http client, so that connections are kept alive and reused.
+   * Its pool has enough connections for {@code config.parallelDownloads} downloads from the same host.
+   *
+   * The client lives as long as this object (Selenide keeps a single instance for the whole process),
+   * so it's never closed explicitly. Instead, connections idle for {@link #MAX_IDLE_SECONDS} are closed
+   * by a background daemon thread.
+   * The client doesn't keep cookies: every request gets its own cookie store (see {@link #createHttpContext}).
+   */
+  private static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+  private static final int MAX_CONNECTIONS = 100;
+  private static final long MAX_IDLE_SECONDS = 30;
+  private static final AtomicLong threadNumber = new AtomicLong();
+
   protected boolean ignoreSelfSignedCerts = true;
 
   private final Downloader downloader;
   private HttpHelper httpHelper = new HttpHelper();
+  private CloseableHttpClient httpClient;
+  private boolean httpClientIgnoresSelfSignedCerts;
 
   public DownloadFileWithHttpRequest() {
     this(new Downloader());
@@ -69,19 +97,87 @@ public class DownloadFileWithHttpRequest {
   public File download(Driver driver, String relativeOrAbsoluteUrl, long timeout) throws IOException {
     String url = makeAbsoluteUrl(driver.config(), relativeOrAbsoluteUrl);
     HttpResponse response = executeHttpRequest(driver, url, timeout);
+    return saveResponse(driver.config(), url, response);
+  }
+
+  /**
+   * Downloads given files in the same way as {@link #download(Driver, String, long)},
+   * but up to {@code config.parallelDownloads} files at the same time.
+   * Browser cookies are copied only once for all the files.
+   *
+   * @return downloaded files (in the same order as urls)
+   */
+  public List<File> download(Driver driver, List<String> relativeOrAbsoluteUrls, long timeout) throws IOException {
+    if (relativeOrAbsoluteUrls.isEmpty()) {
+      return emptyList();
+    }
+
+    Config config = driver.config();
+    CookieStore cookieStore = createCookieStore(driver);
+    List<HttpGet> requests = new ArrayList<>(relativeOrAbsoluteUrls.size());
+    for (String relativeOrAbsoluteUrl : relativeOrAbsoluteUrls) {
+      requests.add(createHttpGet(driver, makeAbsoluteUrl(config, relativeOrAbsoluteUrl), timeout));
+    }
+
+    int threads = Math.max(1, Math.min(config.parallelDownloads(), requests.size()));
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "selenide-download-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      List<Future<File>> downloads = new ArrayList<>(requests.size());
+      for (HttpGet request : requests) {
+        downloads.add(executor.submit(() -> saveResponse(config, request.getURI().toString(),
+            execute(request, createHttpContext(cookieStore), timeout))));
+      }
+      List<File> files = new ArrayList<>(downloads.size());
+      for (Future<File> download : downloads) {
+        files.add(downloadedFile(download));
+      }
+      return files;
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
 
-    if (response.getStatusLine().getStatusCode() >= 500) {
-      throw new RuntimeException("Failed to download file " +
-        url + ": " + response.getStatusLine());
+  private File downloadedFile(Future<File> download) throws IOException {
+    try {
+      return download.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
     }
-    if (response.getStatusLine().getStatusCode() >= 400) {
-      throw new FileNotFoundException("Failed to download file " +
-        url + ": " + response.getStatusLine());
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) throw (IOException) cause;
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new RuntimeException(cause);
     }
+  }
+
+  private File saveResponse(Config config, String url, HttpResponse response) throws IOException {
+    try {
+      if (response.getStatusLine().getStatusCode() >= 500) {
+        throw new RuntimeException("Failed to download file " +
+          url + ": " + response.getStatusLine());
+      }
+      if (response.getStatusLine().getStatusCode() >= 400) {
+        throw new FileNotFoundException("Failed to download file " +
+          url + ": " + response.getStatusLine());
+      }
 
-    String fileName = getFileName(url, response);
-    File downloadedFile = downloader.prepareTargetFile(driver.config(), fileName);
-    return saveFileContent(response, downloadedFile);
+      String fileName = getFileName(url, response);
+      File downloadedFile = downloader.prepareTargetFile(config, fileName);
+      return saveFileContent(response, downloadedFile);
+    }
+    finally {
+      // release connection back to the pool
+      EntityUtils.consumeQuietly(response.getEntity());
+    }
   }
 
   String makeAbsoluteUrl(Config config, String relativeOrAbsoluteUrl) {
@@ -89,16 +185,37 @@ public class DownloadFileWithHttpRequest {
   }
 
   protected HttpResponse executeHttpRequest(Driver driver, String fileToDownloadLocation, long timeout) throws IOException {
-    CloseableHttpClient httpClient = ignoreSelfSignedCerts ? createTrustingHttpClient() : createDefaultHttpClient();
+    return execute(createHttpGet(driver, fileToDownloadLocation, timeout), createHttpContext(driver), timeout);
+  }
+
+  private HttpGet createHttpGet(Driver driver, String fileToDownloadLocation, long timeout) {
     HttpGet httpGet = new HttpGet(fileToDownloadLocation);
     configureHttpGet(httpGet, timeout);
     addHttpHeaders(driver, httpGet);
+    return httpGet;
+  }
+
+  private HttpResponse execute(HttpGet httpGet, HttpContext httpContext, long timeout) throws IOException {
     try {
-      return httpClient.execute(httpGet, createHttpContext(driver));
+      return httpClient().execute(httpGet, httpContext);
     }
     catch (SocketTimeoutException timeoutException) {
-      throw new TimeoutException("Failed to download " + fileToDownloadLocation + " in " + timeout + " ms.", timeoutException);
+      throw new TimeoutException("Failed to download " + httpGet.getURI() + " in " + timeout + " ms.", timeoutException);
+    }
+  }
+
+  /**
+   * @return http client shared by all downloads
+   */
+  protected synchronized CloseableHttpClient httpClient() throws IOException {
+    if (httpClient == null || httpClientIgnoresSelfSignedCerts != ignoreSelfSignedCerts) {
+      if (httpClient != null) {
+        httpClient.close();
+      }
+      httpClient = ignoreSelfSignedCerts ? createTrustingHttpClient() : createDefaultHttpClient();
+      httpClientIgnoresSelfSignedCerts = ignoreSelfSignedCerts;
     }
+    return httpClient;
   }
 
   protected void configureHttpGet(HttpGet httpGet, long timeout) {
@@ -115,7 +232,11 @@ public class DownloadFileWithHttpRequest {
   }
 
   protected CloseableHttpClient createDefaultHttpClient() {
-    return HttpClients.createDefault();
+    return HttpClients.custom()
+        .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
+        .setMaxConnTotal(MAX_CONNECTIONS)
+        .evictIdleConnections(MAX_IDLE_SECONDS, SECONDS)
+        .build();
   }
 
   private static class TrustAllStrategy implements TrustStrategy {
@@ -144,7 +265,10 @@ public class DownloadFileWithHttpRequest {
           .build();
 
       PoolingHttpClientConnectionManager connMgr = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+      connMgr.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+      connMgr.setMaxTotal(MAX_CONNECTIONS);
       builder.setConnectionManager(connMgr);
+      builder.evictIdleConnections(MAX_IDLE_SECONDS, SECONDS);
       return builder.build();
     }
     catch (Exception e) {
@@ -153,10 +277,20 @@ public class DownloadFileWithHttpRequest {
   }
 
   protected HttpContext createHttpContext(Driver driver) {
+    return createHttpContext(createCookieStore(driver));
+  }
+
+  /**
+   * @return browser cookies, or an empty store if browser is not started -
+   * so that cookies received by shared http client never leak to other drivers and tests
+   */
+  private CookieStore createCookieStore(Driver driver) {
+    return driver.hasWebDriverStarted() ? new WebdriverCookieStore(driver.getWebDriver()) : new BasicCookieStore();
+  }
+
+  private HttpContext createHttpContext(CookieStore cookieStore) {
     HttpContext localContext = new BasicHttpContext();
-    if (driver.hasWebDriverStarted()) {
-      localContext.setAttribute(COOKIE_STORE, new WebdriverCookieStore(driver.getWebDriver()));
-    }
+    localContext.setAttribute(COOKIE_STORE, cookieStore);
     return localContext;
   }
 
@@ -1,9 +1,7 @@
 package com.codeborne.selenide.impl;
 
-import com.codeborne.selenide.Config;
 import com.codeborne.selenide.proxy.FileDownloadFilter;
 import com.codeborne.selenide.proxy.SelenideProxyServer;
-import com.google.common.base.Predicate;
 import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -13,29 +11,31 @@ import java.io.FileNotFoundException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 public class DownloadFileWithProxyServer {
   private static final Logger log = Logger.getLogger(DownloadFileWithProxyServer.class.getName());
 
-  private final Waiter waiter;
-
-  DownloadFileWithProxyServer(Waiter waiter) {
-    this.waiter = waiter;
-  }
-
-  public DownloadFileWithProxyServer() {
-    this(new Waiter());
-  }
-
   public File download(WebElementSource anyClickableElement,
                        WebElement clickable, SelenideProxyServer proxyServer, long timeout) throws FileNotFoundException {
-    return clickAndInterceptFileByProxyServer(anyClickableElement, clickable, proxyServer, timeout);
+    return download(anyClickableElement, clickable, proxyServer, timeout, 1, file -> true).get(0);
   }
 
-  private File clickAndInterceptFileByProxyServer(WebElementSource anyClickableElement, WebElement clickable,
-                                          SelenideProxyServer proxyServer, long timeout) throws FileNotFoundException {
-    Config config = anyClickableElement.driver().config();
+  /**
+   * Clicks the element and waits until given number of files matching given filter is downloaded
+   *
+   * @return downloaded files matching the filter (at least {@code count} of them)
+   * @throws FileNotFoundException if less than {@code count} files have been downloaded during the timeout
+   */
+  public List<File> download(WebElementSource anyClickableElement, WebElement clickable, SelenideProxyServer proxyServer,
+                             long timeout, int count, Predicate<File> fileFilter) throws FileNotFoundException {
+    return clickAndInterceptFilesByProxyServer(anyClickableElement, clickable, proxyServer, timeout, count, fileFilter);
+  }
+
+  private List<File> clickAndInterceptFilesByProxyServer(WebElementSource anyClickableElement, WebElement clickable,
+                                                         SelenideProxyServer proxyServer, long timeout,
+                                                         int count, Predicate<File> fileFilter) throws FileNotFoundException {
     WebDriver webDriver = anyClickableElement.driver().getWebDriver();
     String currentWindowHandle = webDriver.getWindowHandle();
     Set<String> currentWindows = webDriver.getWindowHandles();
@@ -45,8 +45,8 @@ public class DownloadFileWithProxyServer {
     try {
       clickable.click();
 
-      waiter.wait(filter, new HasDownloads(), timeout, config.pollingInterval());
-      return firstDownloadedFile(anyClickableElement, filter, timeout);
+      List<File> files = filter.awaitDownloadedFiles(count, fileFilter, timeout);
+      return downloadedFiles(anyClickableElement, filter, files, count, timeout);
     }
     finally {
       filter.deactivate();
@@ -79,23 +79,17 @@ public class DownloadFileWithProxyServer {
     }
   }
 
-  private static class HasDownloads implements Predicate<FileDownloadFilter> {
-    @Override
-    public boolean apply(FileDownloadFilter filter) {
-      return !filter.getDownloadedFiles().isEmpty();
+  private List<File> downloadedFiles(WebElementSource anyClickableElement, FileDownloadFilter filter,
+                                     List<File> files, int count, long timeout) throws FileNotFoundException {
+    if (files.size() < count) {
+      throw new FileNotFoundException("Failed to download " + (count == 1 ? "file " : count + " files ") +
+        anyClickableElement + " in " + timeout + " ms." + filter.getResponses());
     }
-  }
 
-  private File firstDownloadedFile(WebElementSource anyClickableElement,
-                                   FileDownloadFilter filter, long timeout) throws FileNotFoundException {
-    List<File> files = filter.getDownloadedFiles();
-    if (files.isEmpty()) {
-      throw new FileNotFoundException("Failed to download file " + anyClickableElement +
-        " in " + timeout + " ms." + filter.getResponses());
+    for (File file : files) {
+      log.info("Downloaded file: " + file.getAbsolutePath());
     }
-
-    log.info("Downloaded file: " + files.get(0).getAbsolutePath());
     log.info("Just in case, all intercepted responses: " + filter.getResponses());
-    return files.get(0);
+    return files;
   }
 }
@@ -0,0 +1,91 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.Driver;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+
+/**
+ * Remembers the web element found by {@link ElementFinder}, so that following commands
+ * (and nested elements like {@code $("#grid").$(".row")}) don't need to search it again.
+ *
+ * Used only if {@code config.cacheElements} is enabled.
+ *
+ * Cached element is forgotten when
+ * 1) any command on the element fails (e.g. with {@link StaleElementReferenceException}), or
+ * 2) the browser opens another page, goes back/forward, refreshes the page or switches to another frame/window
+ *   (see {@link #invalidate(Driver)}).
+ *
+ * The same "page version" is used by {@link WebElementSelector} to remember that Sizzle has been injected to the page.
+ */
+public class ElementCache {
+  private static final LoadingCache<WebDriver, AtomicLong> pageVersions = CacheBuilder.newBuilder()
+      .weakKeys()
+      .build(CacheLoader.from(() -> new AtomicLong()));
+
+  /**
+   * Forget all elements cached for given driver
+   */
+  public static void invalidate(Driver driver) {
+    if (driver.hasWebDriverStarted()) {
+      invalidate(driver.config(), driver.getWebDriver());
+    }
+  }
+
+  public static void invalidate(Config config, WebDriver webDriver) {
+    if (config.cacheElements() || config.selectorMode() == Sizzle) {
+      pageVersion(webDriver).incrementAndGet();
+    }
+  }
+
+  /**
+   * @return number which changes every time the browser opens another page or switches to another frame/window
+   */
+  static long currentPageVersion(WebDriver webDriver) {
+    return pageVersion(webDriver).get();
+  }
+
+  private static AtomicLong pageVersion(WebDriver webDriver) {
+    return pageVersions.getUnchecked(webDriver);
+  }
+
+  private volatile Entry entry;
+
+  WebElement get(Driver driver) {
+    Entry cached = entry;
+    if (cached == null || !driver.hasWebDriverStarted()) {
+      return null;
+    }
+    WebDriver webDriver = driver.getWebDriver();
+    return cached.webDriver == webDriver && cached.pageVersion == pageVersion(webDriver).get() ? cached.element : null;
+  }
+
+  void put(Driver driver, WebElement element) {
+    WebDriver webDriver = driver.getWebDriver();
+    entry = element == null ? null : new Entry(webDriver, pageVersion(webDriver).get(), element);
+  }
+
+  void clear() {
+    entry = null;
+  }
+
+  private static class Entry {
+    private final WebDriver webDriver;
+    private final long pageVersion;
+    private final WebElement element;
+
+    private Entry(WebDriver webDriver, long pageVersion, WebElement element) {
+      this.webDriver = webDriver;
+      this.pageVersion = pageVersion;
+      this.element = element;
+    }
+  }
+}
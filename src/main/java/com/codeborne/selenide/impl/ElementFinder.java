@@ -7,13 +7,13 @@ import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
-import java.lang.reflect.Proxy;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static com.codeborne.selenide.Condition.exist;
-import static java.lang.Thread.currentThread;
 
 public class ElementFinder extends WebElementSource {
   public static SelenideElement wrap(Driver driver, WebElement parent, String cssSelector) {
@@ -36,18 +36,15 @@ public class ElementFinder extends WebElementSource {
     return wrap(driver, SelenideElement.class, parent, criteria, index);
   }
 
-  @SuppressWarnings("unchecked")
   public static <T extends SelenideElement> T wrap(Driver driver, Class<T> clazz, SearchContext parent, By criteria, int index) {
-    return (T) Proxy.newProxyInstance(
-        currentThread().getContextClassLoader(),
-        new Class<?>[]{clazz},
-        new SelenideElementProxy(new ElementFinder(driver, parent, criteria, index)));
+    return SelenideElementProxy.wrap(clazz, new ElementFinder(driver, parent, criteria, index));
   }
 
   private final Driver driver;
   private final SearchContext parent;
   private final By criteria;
   private final int index;
+  private final ElementCache cache = new ElementCache();
 
   ElementFinder(Driver driver, SearchContext parent, By criteria, int index) {
     this.driver = driver;
@@ -70,11 +67,88 @@ public class ElementFinder extends WebElementSource {
 
   @Override
   public WebElement getWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
+    return getCachedOrFind(this::findWebElement);
+  }
+
+  /**
+   * Searches the element with {@code findElements} which returns an empty list if the element doesn't exist.
+   * Unlike {@code findElement}, it doesn't cause an error response from webdriver and {@link NoSuchElementException}
+   * on every check while waiting for the element to appear (or disappear).
+   * The first element is found with a script returning only this element (see {@link WebElementSelector#findFirstElementOrNull}).
+   */
+  @Override
+  public WebElement getWebElementOrNull() {
+    return getCachedOrFind(this::findWebElementOrNull);
+  }
+
+  private WebElement getCachedOrFind(Supplier<WebElement> finder) {
+    if (!driver.config().cacheElements()) {
+      return finder.get();
+    }
+
+    WebElement cachedElement = cache.get(driver);
+    if (cachedElement != null) {
+      return cachedElement;
+    }
+
+    WebElement element;
+    try {
+      element = finder.get();
+    }
+    catch (StaleElementReferenceException parentHasBeenChanged) {
+      ElementCache.invalidate(driver);
+      element = finder.get();
+    }
+    cache.put(driver, element);
+    return element;
+  }
+
+  private WebElement findWebElement() {
+    List<WebElement> nested = NestedElementFinder.instance.find(this);
+    if (nested != null && !nested.isEmpty()) {
+      return nested.get(0);
+    }
     return index == 0 ?
         WebElementSelector.instance.findElement(driver, getSearchContext(), criteria) :
         WebElementSelector.instance.findElements(driver, getSearchContext(), criteria).get(index);
   }
 
+  private WebElement findWebElementOrNull() {
+    List<WebElement> nested = NestedElementFinder.instance.find(this);
+    if (nested != null) {
+      return nested.isEmpty() ? null : nested.get(0);
+    }
+    if (index == 0) {
+      return WebElementSelector.instance.findFirstElementOrNull(driver, getSearchContext(), criteria);
+    }
+    List<WebElement> elements = WebElementSelector.instance.findElements(driver, getSearchContext(), criteria);
+    return index < elements.size() ? elements.get(index) : null;
+  }
+
+  SearchContext parent() {
+    return parent;
+  }
+
+  By criteria() {
+    return criteria;
+  }
+
+  int index() {
+    return index;
+  }
+
+  /**
+   * @return element found by previous commands, or null if it's not cached (see {@link ElementCache})
+   */
+  WebElement getCachedElement() {
+    return driver.config().cacheElements() ? cache.get(driver) : null;
+  }
+
+  @Override
+  public void forgetCachedElement() {
+    cache.clear();
+  }
+
   @Override
   public List<WebElement> findAll() throws NoSuchElementException, IndexOutOfBoundsException {
     return index == 0 ?
@@ -0,0 +1,45 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static com.google.common.collect.Lists.transform;
+
+/**
+ * Reads texts of collection elements.
+ *
+ * By default texts are read lazily, one {@code getText()} call per element.
+ * If {@code config.textsViaJs} is enabled, texts of all elements are read with a single JavaScript call.
+ */
+public class ElementsTexts {
+  public static ElementsTexts instance = new ElementsTexts();
+
+  private static final String READ_TEXTS = "var elements = arguments[0], texts = [];" +
+      "for (var i = 0; i < elements.length; i++) {" +
+      "  var e = elements[i];" +
+      "  var visible = e.getClientRects().length > 0 && window.getComputedStyle(e).visibility != 'hidden';" +
+      "  var text = visible ? (typeof e.innerText == 'string' ? e.innerText : e.textContent) : '';" +
+      "  texts.push(text.replace(/^[\\s\\u00a0]+|[\\s\\u00a0]+$/g, ''));" +
+      "}" +
+      "return texts;";
+
+  public List<String> texts(Driver driver, List<WebElement> elements) {
+    if (elements.isEmpty() || !canReadAllTextsAtOnce(driver)) {
+      return texts(elements);
+    }
+    return driver.executeJavaScript(READ_TEXTS, elements);
+  }
+
+  /**
+   * @return lazy list of texts: {@code getText()} is called only when corresponding text is requested
+   */
+  public List<String> texts(List<WebElement> elements) {
+    return transform(elements, WebElement::getText);
+  }
+
+  private boolean canReadAllTextsAtOnce(Driver driver) {
+    return driver.config().textsViaJs() && driver.supportsJavascript();
+  }
+}
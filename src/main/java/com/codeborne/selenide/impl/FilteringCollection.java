@@ -14,19 +14,25 @@ import static com.google.common.collect.Collections2.filter;
 public class FilteringCollection implements WebElementsCollection {
   private final WebElementsCollection originalCollection;
   private final Predicate<WebElement> filter;
+  private final Condition condition;
 
   public FilteringCollection(WebElementsCollection originalCollection, Predicate<WebElement> filter) {
     this.originalCollection = originalCollection;
     this.filter = filter;
+    this.condition = null;
   }
 
   public FilteringCollection(WebElementsCollection originalCollection, Condition filter) {
     this.originalCollection = originalCollection;
     this.filter = new ConditionPredicate(driver(), filter);
+    this.condition = filter;
   }
 
   @Override
   public List<WebElement> getElements() {
+    if (condition != null) {
+      return ConditionCompiler.instance.filter(driver(), originalCollection.getElements(), condition);
+    }
     return new ArrayList<>(filter(originalCollection.getElements(), filter));
   }
 
@@ -25,6 +25,11 @@ public class HeadOfCollection implements WebElementsCollection {
     return source.subList(0, Math.min(source.size(), size));
   }
 
+  @Override
+  public int size() {
+    return Math.min(originalCollection.size(), size);
+  }
+
   @Override
   public String description() {
     return originalCollection.description() + ".first(" + size + ')';
@@ -1,18 +1,35 @@
 package com.codeborne.selenide.impl;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 import java.util.regex.Pattern;
 
 import static java.util.regex.Pattern.DOTALL;
 
+/**
+ * Text matching for conditions like {@code text}, {@code exactText}, {@code matchText}.
+ *
+ * All methods ignore difference in whitespaces (spaces, tabs, newlines, non-breakable spaces).
+ * Case-insensitive methods compare texts char by char (see {@link String#regionMatches(boolean, int, String, int, int)}),
+ * so they don't depend on default locale.
+ * Conditions can normalize expected text once with {@link #reduceSpaces(String)} -
+ * then it's not copied again on every check.
+ */
 public class Html {
   public static Html text = new Html();
 
+  private final LoadingCache<String, Pattern> patterns = CacheBuilder.newBuilder()
+      .maximumSize(1000)
+      .build(CacheLoader.from(regex -> Pattern.compile(".*" + regex + ".*", DOTALL)));
+
   public boolean matches(String text, String regex) {
-    return Pattern.compile(".*" + regex + ".*", DOTALL).matcher(text).matches();
+    return patterns.getUnchecked(regex).matcher(text).matches();
   }
 
   public boolean contains(String text, String subtext) {
-    return reduceSpaces(text.toLowerCase()).contains(reduceSpaces(subtext.toLowerCase()));
+    return containsIgnoreCase(reduceSpaces(text), reduceSpaces(subtext));
   }
 
   public boolean containsCaseSensitive(String text, String subtext) {
@@ -20,14 +37,87 @@ public class Html {
   }
 
   public boolean equals(String text, String subtext) {
-    return reduceSpaces(text).equalsIgnoreCase(reduceSpaces(subtext.toLowerCase()));
+    return reduceSpaces(text).equalsIgnoreCase(reduceSpaces(subtext));
   }
 
   public boolean equalsCaseSensitive(String text, String subtext) {
     return reduceSpaces(text).equals(reduceSpaces(subtext));
   }
 
-  String reduceSpaces(String text) {
-    return text.replaceAll("[\\s\\n\\r\u00a0]+", " ").trim();
+  /**
+   * Replaces every sequence of whitespaces by a single space and trims the result
+   * (like {@code text.replaceAll("[\\s\\n\\r\u00a0]+", " ").trim()}, so control characters at the ends are removed too).
+   *
+   * @return the same string instance if it doesn't contain redundant whitespaces
+   */
+  public String reduceSpaces(String text) {
+    int length = text.length();
+    if (isNormalized(text, length)) {
+      return text;
+    }
+
+    int start = 0;
+    while (start < length && isTrimmed(text.charAt(start))) start++;
+    int end = length;
+    while (end > start && isTrimmed(text.charAt(end - 1))) end--;
+
+    StringBuilder sb = new StringBuilder(end - start);
+    boolean previousIsSpace = false;
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (isSpace(c)) {
+        if (!previousIsSpace) {
+          sb.append(' ');
+          previousIsSpace = true;
+        }
+      }
+      else {
+        sb.append(c);
+        previousIsSpace = false;
+      }
+    }
+    return sb.toString();
+  }
+
+  private boolean isNormalized(String text, int length) {
+    if (length == 0) return true;
+    if (isTrimmed(text.charAt(0)) || isTrimmed(text.charAt(length - 1))) return false;
+
+    boolean previousIsSpace = false;
+    for (int i = 1; i < length - 1; i++) {
+      char c = text.charAt(i);
+      if (isSpace(c)) {
+        if (c != ' ' || previousIsSpace) return false;
+        previousIsSpace = true;
+      }
+      else {
+        previousIsSpace = false;
+      }
+    }
+    return true;
+  }
+
+  private boolean containsIgnoreCase(String text, String subtext) {
+    int max = text.length() - subtext.length();
+    for (int i = 0; i <= max; i++) {
+      if (text.regionMatches(true, i, subtext, 0, subtext.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Characters removed from the ends of text: whitespaces and control characters (like {@link String#trim()})
+   */
+  private static boolean isTrimmed(char c) {
+    return c <= ' ' || isSpace(c);
+  }
+
+  /**
+   * Same characters as regular expression {@code [\s\n\r\u00a0]}
+   */
+  private static boolean isSpace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r' || c == '\u00a0';
   }
 }
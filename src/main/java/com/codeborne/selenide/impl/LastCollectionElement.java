@@ -6,16 +6,13 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.WebElement;
 
-import java.lang.reflect.Proxy;
 import java.util.List;
 
 import static com.codeborne.selenide.Condition.visible;
 
 public class LastCollectionElement extends WebElementSource {
   public static SelenideElement wrap(WebElementsCollection collection) {
-    return (SelenideElement) Proxy.newProxyInstance(
-        collection.getClass().getClassLoader(), new Class<?>[]{SelenideElement.class},
-        new SelenideElementProxy(new LastCollectionElement(collection)));
+    return SelenideElementProxy.wrap(SelenideElement.class, new LastCollectionElement(collection));
   }
 
   private final WebElementsCollection collection;
@@ -0,0 +1,147 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.Condition.and;
+import static com.codeborne.selenide.Condition.not;
+import static java.util.logging.Level.FINE;
+
+/**
+ * Waits in browser until element matches a condition (used if {@code config.waitViaJs} is enabled).
+ *
+ * Instead of sleeping for polling interval between checks, {@code should*} methods run an asynchronous script
+ * which re-checks the condition on every DOM change (MutationObserver) and every polling interval
+ * (for changes not caused by DOM mutations, like css transitions). The script returns as soon as the element matches
+ * the condition, or when the timeout is reached. After that, the condition is checked as usual.
+ *
+ * Conditions without JavaScript form (see {@link Condition#toJavaScript()}) are polled as usual.
+ * So are conditions which fail in browser with an error (e.g. unsupported selector).
+ * If the browser doesn't allow long asynchronous scripts (see {@link WebDriver.Timeouts#setScriptTimeout}),
+ * waiting in browser is disabled for this webdriver.
+ */
+public class MutationObserverWait {
+  private static final Logger log = Logger.getLogger(MutationObserverWait.class.getName());
+
+  /**
+   * Default script timeout in most webdrivers is 30 seconds, so we wait in browser by shorter portions.
+   */
+  private static final long MAX_WAIT_MS = 10_000;
+
+  private static final String SCRIPT_START = "" +
+      "var e = arguments[0], timeout = arguments[1], interval = arguments[2], callback = arguments[3];" +
+      ConditionCompiler.FUNCTIONS +
+      "function matches() {" +
+      "  return !!(";
+
+  /**
+   * The script calls back with true if the element matches, false on timeout,
+   * or with error message if the condition failed in browser (then Java checks it as usual).
+   */
+  private static final String SCRIPT_END = ");" +
+      "}" +
+      "var finished = false, observer, poller, timer;" +
+      "function done(result) {" +
+      "  if (finished) return;" +
+      "  finished = true;" +
+      "  if (observer) observer.disconnect();" +
+      "  clearInterval(poller);" +
+      "  clearTimeout(timer);" +
+      "  callback(result);" +
+      "}" +
+      "function check() {" +
+      "  try {" +
+      "    if (matches()) done(true);" +
+      "  }" +
+      "  catch (error) {" +
+      "    done('' + error);" +
+      "  }" +
+      "}" +
+      "check();" +
+      "if (finished) return;" +
+      "observer = new MutationObserver(check);" +
+      "poller = setInterval(check, interval);" +
+      "timer = setTimeout(function() {done(false);}, timeout);" +
+      "observer.observe(document, {attributes: true, childList: true, characterData: true, subtree: true});";
+
+  public static MutationObserverWait instance = new MutationObserverWait();
+
+  private final Cache<WebDriver, Boolean> webdriversWithoutAsyncScripts = CacheBuilder.newBuilder().weakKeys().build();
+
+  /**
+   * Waits in browser until the element matches all given conditions
+   *
+   * @param args arguments of {@code should*} method (conditions, message, timeout)
+   * @param invert true for {@code shouldNot*} methods
+   * @return false if it's impossible to wait in browser - then caller should sleep for polling interval as usual
+   */
+  public boolean await(WebElementSource source, Object[] args, boolean invert, long timeoutMs, long pollingIntervalMs) {
+    Driver driver = source.driver();
+    if (timeoutMs <= 0 || !driver.supportsJavascript()) {
+      return false;
+    }
+    WebDriver webDriver = driver.getWebDriver();
+    if (webdriversWithoutAsyncScripts.getIfPresent(webDriver) != null) {
+      return false;
+    }
+    String expression = toJavaScript(args, invert);
+    if (expression == null) {
+      return false;
+    }
+
+    long waitMs = Math.min(timeoutMs, MAX_WAIT_MS);
+    long start = System.currentTimeMillis();
+    try {
+      WebElement element = source.getWebElement();
+      Object result = ((JavascriptExecutor) webDriver).executeAsyncScript(SCRIPT_START + expression + SCRIPT_END,
+          element, waitMs, Math.max(pollingIntervalMs, 10));
+      if (result instanceof String) {
+        log.fine("Failed to wait in browser: " + result);
+        return false;
+      }
+      return true;
+    }
+    catch (ScriptTimeoutException e) {
+      if (System.currentTimeMillis() - start < waitMs) {
+        log.info("Webdriver doesn't allow asynchronous scripts long enough, will poll instead: " + e);
+        webdriversWithoutAsyncScripts.put(webDriver, true);
+        return false;
+      }
+      return true;
+    }
+    catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
+      log.log(FINE, "Failed to wait in browser", e);
+      return false;
+    }
+  }
+
+  private String toJavaScript(Object[] args, boolean invert) {
+    List<Condition> conditions = new ArrayList<>(1);
+    for (Object arg : args) {
+      if (arg instanceof Condition) {
+        conditions.add(invert ? not((Condition) arg) : (Condition) arg);
+      }
+      else if (arg instanceof Condition[]) {
+        for (Condition condition : (Condition[]) arg) {
+          conditions.add(invert ? not(condition) : condition);
+        }
+      }
+    }
+    if (conditions.isEmpty()) {
+      return null;
+    }
+    return conditions.size() == 1 ? conditions.get(0).toJavaScript() :
+        and("all", conditions.toArray(new Condition[0])).toJavaScript();
+  }
+}
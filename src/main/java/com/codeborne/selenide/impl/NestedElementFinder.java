@@ -0,0 +1,140 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.logging.Level.FINE;
+
+/**
+ * Finds nested elements like {@code $("#grid").$(".row", 3).$("td.price")} with a single JavaScript call
+ * (used if {@code config.nestedSelectorsViaJs} is enabled).
+ *
+ * The script applies selector and index of every parent in the same way as webdriver does
+ * ({@code querySelectorAll} for CSS selectors, {@code document.evaluate} for XPath).
+ * The chain starts from the nearest parent which cannot be found by script (e.g. collection element)
+ * or which has been cached (see {@link ElementCache}).
+ *
+ * If any of parents is not found, the caller searches elements one by one as usual,
+ * so that error message points to the missing parent.
+ */
+class NestedElementFinder {
+  private static final Logger log = Logger.getLogger(NestedElementFinder.class.getName());
+
+  private static final String FIND_NESTED_ELEMENT = "" +
+      "var context = arguments[0] || document, steps = arguments[1];" +
+      "for (var i = 0; i < steps.length; i++) {" +
+      "  var selector = steps[i][0], xpath = steps[i][1], index = steps[i][2], found = null;" +
+      "  if (xpath) {" +
+      "    var result = document.evaluate(selector, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+      "    found = index < result.snapshotLength ? result.snapshotItem(index) : null;" +
+      "  }" +
+      "  else {" +
+      "    found = context.querySelectorAll(selector)[index];" +
+      "  }" +
+      "  if (!found || found.nodeType != 1) return i;" +
+      "  context = found;" +
+      "}" +
+      "return context;";
+
+  private static final String CSS_PREFIX = "By.cssSelector: ";
+  private static final String XPATH_PREFIX = "By.xpath: ";
+
+  static NestedElementFinder instance = new NestedElementFinder();
+
+  /**
+   * @return list with the found element, or empty list if the element doesn't exist (but all its parents exist),
+   * or null if the element cannot be found with a single script - then caller should search it as usual
+   */
+  List<WebElement> find(ElementFinder finder) {
+    Driver driver = finder.driver();
+    if (!driver.config().nestedSelectorsViaJs() || !(finder.parent() instanceof SelenideElement) ||
+      !driver.supportsJavascript()) {
+      return null;
+    }
+
+    List<List<Object>> steps = new ArrayList<>(4);
+    SearchContext root = addSteps(driver, finder, steps);
+    if (steps.size() < 2) {
+      return null;
+    }
+
+    try {
+      WebElement context = root == null ? null :
+          root instanceof SelenideElement ? ((SelenideElement) root).toWebElement() :
+          (WebElement) root;
+      Object result = driver.executeJavaScript(FIND_NESTED_ELEMENT, context, steps);
+      if (result instanceof WebElement) {
+        return singletonList((WebElement) result);
+      }
+      if (result instanceof Number && ((Number) result).intValue() == steps.size() - 1) {
+        return emptyList();
+      }
+    }
+    catch (WebDriverException e) {
+      log.log(FINE, "Failed to find nested element " + finder + " in browser", e);
+    }
+    return null;
+  }
+
+  /**
+   * Collects selectors of the element and its parents (starting from the outermost one)
+   *
+   * @return the element where the search should start (null for the whole page).
+   * If the element cannot be found with a single script, {@code steps} are left empty.
+   */
+  private SearchContext addSteps(Driver driver, ElementFinder finder, List<List<Object>> steps) {
+    SearchContext parent = finder.parent();
+    for (ElementFinder current = finder; ; ) {
+      List<Object> step = toStep(driver, current);
+      if (step == null) {
+        steps.clear();
+        return null;
+      }
+      steps.add(0, step);
+
+      ElementFinder parentFinder = toElementFinder(driver, parent);
+      if (parentFinder == null) {
+        if (parent != null && !(parent instanceof WebElement)) {
+          steps.clear();
+        }
+        return parent;
+      }
+      WebElement cachedParent = parentFinder.getCachedElement();
+      if (cachedParent != null) {
+        return cachedParent;
+      }
+      current = parentFinder;
+      parent = parentFinder.parent();
+    }
+  }
+
+  private ElementFinder toElementFinder(Driver driver, SearchContext element) {
+    WebElementSource source = SelenideElementProxy.getWebElementSource(element);
+    return source instanceof ElementFinder && source.driver() == driver ? (ElementFinder) source : null;
+  }
+
+  private List<Object> toStep(Driver driver, ElementFinder finder) {
+    By criteria = finder.criteria();
+    String selector = criteria.toString();
+    if (criteria.getClass() == By.ByCssSelector.class && selector.startsWith(CSS_PREFIX) &&
+      driver.config().selectorMode() != Sizzle) {
+      return asList(selector.substring(CSS_PREFIX.length()), false, finder.index());
+    }
+    if (criteria.getClass() == By.ByXPath.class && selector.startsWith(XPATH_PREFIX)) {
+      return asList(selector.substring(XPATH_PREFIX.length()), true, finder.index());
+    }
+    return null;
+  }
+}
@@ -0,0 +1,117 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Config;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Writes screenshots and page sources to reports folder.
+ *
+ * If {@code config.asyncScreenshots} is enabled, files are encoded and written in a background thread.
+ * The queue is bounded: if disk can't keep up, the test thread writes the file itself.
+ * Use {@link #flush()} to wait until all files are written. It's done by {@link ScreenShotLaboratory#finishContext()}
+ * and by explicit screenshot methods which return file name to user - so only automatic screenshots are asynchronous.
+ */
+public class ReportFilesWriter {
+  private static final Logger log = Logger.getLogger(ReportFilesWriter.class.getName());
+  private static final int MAX_QUEUED_FILES = 64;
+  private static final long FLUSH_TIMEOUT_SECONDS = 30;
+
+  public static ReportFilesWriter instance = new ReportFilesWriter();
+
+  private final ThreadPoolExecutor executor;
+  private final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+
+  ReportFilesWriter() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    executor = new ThreadPoolExecutor(1, 1, 0, MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_FILES), runnable -> {
+      Thread thread = new Thread(runnable, "selenide-report-writer-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+    Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "selenide-report-writer-flush"));
+  }
+
+  public void write(Config config, File targetFile, byte[] content) {
+    write(config, targetFile, path -> Files.write(path, content));
+  }
+
+  public void write(Config config, File targetFile, String content) {
+    write(config, targetFile, path -> Files.write(path, content.getBytes(UTF_8)));
+  }
+
+  public void write(Config config, File targetFile, BufferedImage image) {
+    write(config, targetFile, path -> ImageIO.write(image, "png", path.toFile()));
+  }
+
+  private void write(Config config, File targetFile, Output output) {
+    if (config.asyncScreenshots()) {
+      pending.add(executor.submit(() -> writeFile(targetFile, output)));
+      removeCompleted();
+    }
+    else {
+      writeFile(targetFile, output);
+    }
+  }
+
+  private void writeFile(File targetFile, Output output) {
+    try {
+      Path path = targetFile.toPath();
+      Path folder = path.toAbsolutePath().getParent();
+      if (folder != null) {
+        Files.createDirectories(folder);
+      }
+      output.writeTo(path);
+    }
+    catch (IOException | RuntimeException e) {
+      log.log(SEVERE, "Failed to write file " + targetFile.getAbsolutePath(), e);
+    }
+  }
+
+  private void removeCompleted() {
+    pending.removeIf(Future::isDone);
+  }
+
+  /**
+   * Waits until all scheduled files are written to disk
+   */
+  public void flush() {
+    Future<?> file;
+    while ((file = pending.poll()) != null) {
+      try {
+        file.get(FLUSH_TIMEOUT_SECONDS, SECONDS);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      catch (ExecutionException | TimeoutException e) {
+        log.log(SEVERE, "Failed to write report file", e);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface Output {
+    void writeTo(Path path) throws IOException;
+  }
+}
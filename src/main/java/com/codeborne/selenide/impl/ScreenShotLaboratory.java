@@ -7,6 +7,7 @@ import org.openqa.selenium.Alert;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.UnhandledAlertException;
 import org.openqa.selenium.WebDriver;
@@ -18,12 +19,11 @@ import java.awt.image.BufferedImage;
 import java.awt.image.RasterFormatException;
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -37,12 +37,21 @@ import java.util.logging.Logger;
 import static java.io.File.separatorChar;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.logging.Level.SEVERE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.logging.Level.WARNING;
+import static org.openqa.selenium.OutputType.BYTES;
+import static java.util.stream.Collectors.toList;
 import static org.openqa.selenium.OutputType.FILE;
 
 public class ScreenShotLaboratory {
   private static final Logger log = Logger.getLogger(ScreenShotLaboratory.class.getName());
   private static final ScreenShotLaboratory instance = new ScreenShotLaboratory();
+  private static final String GET_RECTANGLES = "var elements = arguments[0], rectangles = [];" +
+    "for (var i = 0; i < elements.length; i++) {" +
+    "  var r = elements[i].getBoundingClientRect();" +
+    "  rectangles.push([r.left + window.pageXOffset, r.top + window.pageYOffset, r.width, r.height]);" +
+    "}" +
+    "return rectangles;";
 
   public static ScreenShotLaboratory getInstance() {
     return instance;
@@ -53,6 +62,7 @@ public class ScreenShotLaboratory {
   protected ThreadLocal<String> currentContext = ThreadLocal.withInitial(() -> "");
   protected ThreadLocal<List<File>> currentContextScreenshots = new ThreadLocal<>();
   protected Set<String> printedErrors = new ConcurrentSkipListSet<>();
+  protected ReportFilesWriter writer = ReportFilesWriter.instance;
 
   public String takeScreenShot(Driver driver, String className, String methodName) {
     return takeScreenShot(driver, getScreenshotFileName(className, methodName));
@@ -63,22 +73,35 @@ public class ScreenShotLaboratory {
       methodName + '.' + timestamp();
   }
 
+  /**
+   * Takes screenshot of current browser window for error message (see {@link #formatScreenShotPath(Driver)}).
+   * If {@code config.asyncScreenshots} is enabled, files may be still being written when this method returns.
+   * They are flushed to disk by {@link #finishContext()} or by any explicit screenshot.
+   */
   public String takeScreenShot(Driver driver) {
-    return takeScreenShot(driver, generateScreenshotFileName());
+    return takeScreenShot(driver, generateScreenshotFileName(), false);
   }
 
   /**
    * Takes screenshot of current browser window.
    * Stores 2 files: html of page (if "savePageSource" option is enabled), and (if possible) image in PNG format.
+   * Files are written to disk before this method returns.
    *
    * @param fileName name of file (without extension) to store screenshot to.
    * @return the name of last saved screenshot or null if failed to create screenshot
    */
-
   public String takeScreenShot(Driver driver, String fileName) {
-    return ifWebDriverStarted(driver, webDriver ->
+    return takeScreenShot(driver, fileName, true);
+  }
+
+  protected String takeScreenShot(Driver driver, String fileName, boolean waitUntilWritten) {
+    String screenshot = ifWebDriverStarted(driver, webDriver ->
       ifReportsFolderNotNull(driver.config(), config ->
         takeScreenShot(config, webDriver, fileName)));
+    if (waitUntilWritten) {
+      writer.flush();
+    }
+    return screenshot;
   }
 
   private String takeScreenShot(Config config, WebDriver webDriver, String fileName) {
@@ -99,14 +122,8 @@ public class ScreenShotLaboratory {
   }
 
   public File takeScreenshot(Driver driver, WebElement element) {
-    try {
-      BufferedImage destination = takeScreenshotAsImage(driver, element);
-      return writeToFile(driver, destination);
-    }
-    catch (IOException e) {
-      log.log(SEVERE, "Failed to take screenshot of " + element, e);
-      return null;
-    }
+    BufferedImage destination = takeScreenshotAsImage(driver, element);
+    return writeToFile(driver, destination);
   }
 
   public BufferedImage takeScreenshotAsImage(Driver driver, WebElement element) {
@@ -123,23 +140,75 @@ public class ScreenShotLaboratory {
 
     byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
 
-    Point elementLocation = element.getLocation();
     try {
       BufferedImage img = ImageIO.read(new ByteArrayInputStream(screen));
-      int elementWidth = element.getSize().getWidth();
-      int elementHeight = element.getSize().getHeight();
-      if (elementWidth > img.getWidth()) {
-        elementWidth = img.getWidth() - elementLocation.getX();
-      }
-      if (elementHeight > img.getHeight()) {
-        elementHeight = img.getHeight() - elementLocation.getY();
-      }
-      return img.getSubimage(elementLocation.getX(), elementLocation.getY(), elementWidth, elementHeight);
+      return crop(img, new Rectangle(element.getLocation(), element.getSize()));
     }
     catch (IOException e) {
       log.log(SEVERE, "Failed to take screenshot of " + element, e);
       return null;
     }
+  }
+
+  /**
+   * Takes a single screenshot of the page and crops images of all given elements from it.
+   * Coordinates of all elements are fetched with a single JavaScript call (if browser supports JavaScript).
+   *
+   * @return images of elements in the same order as elements (null for element not displayed on current screen),
+   * or null if failed to take screenshot
+   */
+  public List<BufferedImage> takeScreenshotsAsImages(Driver driver, List<WebElement> elements) {
+    return ifWebDriverStarted(driver, webdriver ->
+      ifReportsFolderNotNull(driver.config(), config ->
+        takeScreenshotsAsImages(driver, webdriver, elements)));
+  }
+
+  private List<BufferedImage> takeScreenshotsAsImages(Driver driver, WebDriver webdriver, List<WebElement> elements) {
+    if (!(webdriver instanceof TakesScreenshot)) {
+      log.warning("Cannot take screenshot because browser does not support screenshots");
+      return null;
+    }
+
+    List<Rectangle> rectangles = getRectangles(driver, elements);
+    byte[] screen = ((TakesScreenshot) webdriver).getScreenshotAs(OutputType.BYTES);
+    BufferedImage img;
+    try {
+      img = ImageIO.read(new ByteArrayInputStream(screen));
+    }
+    catch (IOException e) {
+      log.log(SEVERE, "Failed to take screenshot of " + elements.size() + " elements", e);
+      return null;
+    }
+
+    List<BufferedImage> images = new ArrayList<>(rectangles.size());
+    for (Rectangle rectangle : rectangles) {
+      images.add(crop(img, rectangle));
+    }
+    return images;
+  }
+
+  private List<Rectangle> getRectangles(Driver driver, List<WebElement> elements) {
+    if (elements.isEmpty() || !driver.supportsJavascript()) {
+      return elements.stream().map(WebElement::getRect).collect(toList());
+    }
+    List<List<Number>> rectangles = driver.executeJavaScript(GET_RECTANGLES, elements);
+    return rectangles.stream()
+      .map(r -> new Rectangle(r.get(0).intValue(), r.get(1).intValue(), r.get(3).intValue(), r.get(2).intValue()))
+      .collect(toList());
+  }
+
+  private BufferedImage crop(BufferedImage img, Rectangle element) {
+    int elementWidth = element.getWidth();
+    int elementHeight = element.getHeight();
+    if (elementWidth > img.getWidth()) {
+      elementWidth = img.getWidth() - element.getX();
+    }
+    if (elementHeight > img.getHeight()) {
+      elementHeight = img.getHeight() - element.getY();
+    }
+    try {
+      return img.getSubimage(element.getX(), element.getY(), elementWidth, elementHeight);
+    }
     catch (RasterFormatException e) {
       log.warning("Cannot take screenshot because element is not displayed on current screen position");
       return null;
@@ -175,23 +244,20 @@ public class ScreenShotLaboratory {
   }
 
   public File takeScreenshot(Driver driver, WebElement iframe, WebElement element) {
-    try {
-      BufferedImage dest = takeScreenshotAsImage(driver, iframe, element);
-      return writeToFile(driver, dest);
-    }
-    catch (IOException e) {
-      log.log(SEVERE, "Failed to take screenshot of " + element + " inside frame " + iframe, e);
-      return null;
-    }
+    BufferedImage dest = takeScreenshotAsImage(driver, iframe, element);
+    return writeToFile(driver, dest);
   }
 
-  private File writeToFile(Driver driver, BufferedImage dest) throws IOException {
+  /**
+   * Screenshots of elements are returned to user as files, so they are written to disk before returning
+   */
+  private File writeToFile(Driver driver, BufferedImage dest) {
     if (dest == null) {
       return null;
     }
     File screenshotOfElement = new File(driver.config().reportsFolder(), generateScreenshotFileName() + ".png");
-    ensureFolderExists(screenshotOfElement);
-    ImageIO.write(dest, "png", screenshotOfElement);
+    writer.write(driver.config(), screenshotOfElement, dest);
+    writer.flush();
     return screenshotOfElement;
   }
 
@@ -312,7 +378,7 @@ public class ScreenShotLaboratory {
     File pageSource = new File(config.reportsFolder(), fileName + ".html");
 
     try {
-      writeToFile(webdriver.getPageSource(), pageSource);
+      writer.write(config, pageSource, webdriver.getPageSource());
     }
     catch (UnhandledAlertException e) {
       if (retryIfAlert) {
@@ -332,26 +398,21 @@ public class ScreenShotLaboratory {
     }
     catch (WebDriverException e) {
       log.log(WARNING, "Failed to save page source to " + fileName + " because of " + e);
-      writeToFile(e.toString(), pageSource);
+      writer.write(config, pageSource, e.toString());
       return pageSource;
     }
     catch (RuntimeException e) {
       log.log(SEVERE, "Failed to save page source to " + fileName, e);
-      writeToFile(e.toString(), pageSource);
+      writer.write(config, pageSource, e.toString());
     }
     return pageSource;
   }
 
   protected File takeScreenshotImage(Config config, TakesScreenshot driver, String fileName) {
     try {
-      File scrFile = driver.getScreenshotAs(FILE);
+      byte[] screenshot = driver.getScreenshotAs(BYTES);
       File imageFile = new File(config.reportsFolder(), fileName + ".png");
-      try {
-        copyFile(scrFile, imageFile);
-      }
-      catch (IOException e) {
-        log.log(SEVERE, "Failed to save screenshot to " + imageFile, e);
-      }
+      writer.write(config, imageFile, screenshot);
       return imageFile;
     }
     catch (WebDriverException e) {
@@ -361,28 +422,19 @@ public class ScreenShotLaboratory {
   }
 
   protected void copyFile(File sourceFile, File targetFile) throws IOException {
-    try (FileInputStream in = new FileInputStream(sourceFile)) {
-      copyFile(in, targetFile);
-    }
+    ensureFolderExists(targetFile);
+    Files.copy(sourceFile.toPath(), targetFile.toPath(), REPLACE_EXISTING);
   }
 
   protected void copyFile(InputStream in, File targetFile) throws IOException {
     ensureFolderExists(targetFile);
-
-    try (FileOutputStream out = new FileOutputStream(targetFile)) {
-      byte[] buffer = new byte[1024];
-      int len;
-      while ((len = in.read(buffer)) != -1) {
-        out.write(buffer, 0, len);
-      }
-    }
-
-//    log.info("copyFile 结束");
+    Files.copy(in, targetFile.toPath(), REPLACE_EXISTING);
   }
 
   protected void writeToFile(String content, File targetFile) {
-    try (ByteArrayInputStream in = new ByteArrayInputStream(content.getBytes(UTF_8))) {
-      copyFile(in, targetFile);
+    try {
+      ensureFolderExists(targetFile);
+      Files.write(targetFile.toPath(), content.getBytes(UTF_8));
     }
     catch (IOException e) {
       log.log(SEVERE, "Failed to write file " + targetFile.getAbsolutePath(), e);
@@ -411,7 +463,11 @@ public class ScreenShotLaboratory {
     currentContextScreenshots.set(new ArrayList<>());
   }
 
+  /**
+   * Finishes current context. Waits until all its screenshots are written to disk.
+   */
   public List<File> finishContext() {
+    writer.flush();
     List<File> result = currentContextScreenshots.get();
     currentContext.set("");
     currentContextScreenshots.remove();
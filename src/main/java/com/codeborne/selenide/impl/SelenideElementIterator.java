@@ -1,21 +1,41 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.WebElement;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
+/**
+ * Iterates over elements of collection found once (on the first call).
+ *
+ * Returned elements use found web elements, so that iterating doesn't search the whole collection again for every element.
+ * If a command on an element fails (e.g. element became stale), the element is searched again in the collection by index.
+ */
 public class SelenideElementIterator implements Iterator<SelenideElement> {
   protected final WebElementsCollection collection;
   protected int index;
+  private List<WebElement> elements;
 
   public SelenideElementIterator(WebElementsCollection collection) {
     this.collection = collection;
   }
 
+  protected List<WebElement> elements() {
+    if (elements == null) {
+      elements = collection.getElements();
+    }
+    return elements;
+  }
+
+  protected SelenideElement wrap(int index) {
+    return CollectionElement.wrap(collection, index, elements().get(index));
+  }
+
   @Override
   public boolean hasNext() {
-    return collection.getElements().size() > index;
+    return elements().size() > index;
   }
 
   @Override
@@ -23,7 +43,7 @@ public class SelenideElementIterator implements Iterator<SelenideElement> {
     if (!hasNext()) {
       throw new NoSuchElementException();
     }
-    return CollectionElement.wrap(collection, index++);
+    return wrap(index++);
   }
 
   @Override
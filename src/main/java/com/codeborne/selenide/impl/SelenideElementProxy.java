@@ -2,10 +2,13 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.PollingStrategy;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.Stopwatch;
 import com.codeborne.selenide.commands.Commands;
 import com.codeborne.selenide.ex.ElementIsNotClickableException;
+import com.codeborne.selenide.ex.ElementShould;
+import com.codeborne.selenide.ex.ElementShouldNot;
 import com.codeborne.selenide.ex.InvalidStateException;
 import com.codeborne.selenide.ex.UIAssertionError;
 import com.codeborne.selenide.logevents.SelenideLog;
@@ -13,13 +16,21 @@ import com.codeborne.selenide.logevents.SelenideLogger;
 import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
 
 import java.io.FileNotFoundException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.codeborne.selenide.AssertionMode.SOFT;
 import static com.codeborne.selenide.Condition.exist;
@@ -45,6 +56,53 @@ class SelenideElementProxy implements InvocationHandler {
       "waitWhile"
   ));
 
+  /**
+   * Proxy classes are generated by JVM once per interface, but looking up their constructor on every
+   * {@link Proxy#newProxyInstance} call is quite expensive - and we create a proxy for every $, $$.get etc.
+   * So the constructor is taken from the first proxy created for the interface.
+   */
+  private static final ClassValue<Constructor<?>> proxyConstructors = new ClassValue<Constructor<?>>() {
+    @Override
+    protected Constructor<?> computeValue(Class<?> type) {
+      try {
+        InvocationHandler noHandler = (proxy, method, args) -> null;
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, noHandler);
+        return proxy.getClass().getConstructor(InvocationHandler.class);
+      }
+      catch (NoSuchMethodException e) {
+        throw new IllegalStateException("Cannot create proxy class for " + type.getName(), e);
+      }
+    }
+  };
+
+  /**
+   * Properties of SelenideElement methods which are needed on every call. Calculated once per method.
+   */
+  private static final Map<Method, MethodInfo> methods = new ConcurrentHashMap<>(256);
+
+  static <T extends SelenideElement> T wrap(Class<T> type, WebElementSource webElementSource) {
+    try {
+      return type.cast(proxyConstructors.get(type).newInstance(new SelenideElementProxy(webElementSource)));
+    }
+    catch (InvocationTargetException e) {
+      throw new IllegalStateException("Failed to create proxy for " + type.getName(), e.getTargetException());
+    }
+    catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create proxy for " + type.getName(), e);
+    }
+  }
+
+  /**
+   * @return source of given Selenide element, or null if it's not a Selenide element
+   */
+  static WebElementSource getWebElementSource(Object element) {
+    if (element == null || !Proxy.isProxyClass(element.getClass())) {
+      return null;
+    }
+    InvocationHandler handler = Proxy.getInvocationHandler(element);
+    return handler instanceof SelenideElementProxy ? ((SelenideElementProxy) handler).webElementSource : null;
+  }
+
   private final WebElementSource webElementSource;
 
   protected SelenideElementProxy(WebElementSource webElementSource) {
@@ -53,23 +111,25 @@ class SelenideElementProxy implements InvocationHandler {
 
   @Override
   public Object invoke(Object proxy, Method method, Object... args) throws Throwable {
-    if (methodsToSkipLogging.contains(method.getName()))
-      return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+    MethodInfo methodInfo = methodInfo(method);
+    if (methodInfo.skipLogging)
+      return driver().commands().execute(proxy, webElementSource, methodInfo.command, args);
 
     validateAssertionMode(config());
 
-    long timeoutMs = getTimeoutMs(method, args);
-    long pollingIntervalMs = getPollingIntervalMs(method, args);
-    SelenideLog log = SelenideLogger.beginStep(webElementSource.getSearchCriteria(), method.getName(), args);
+    long timeoutMs = getTimeoutMs(methodInfo, args);
+    long pollingIntervalMs = getPollingIntervalMs(methodInfo, args);
+    PollingStrategy pollingStrategy = getPollingStrategy(methodInfo, args);
+    SelenideLog log = SelenideLogger.beginStep(webElementSource.getSearchCriteria(), methodInfo.name, args);
     try {
-      Object result = dispatchAndRetry(timeoutMs, pollingIntervalMs, proxy, method, args);
+      Object result = dispatchAndRetry(timeoutMs, pollingStrategy, pollingIntervalMs, proxy, methodInfo, args);
       SelenideLogger.commitStep(log, PASS);
       return result;
     }
     catch (Error error) {
       Error wrappedError = UIAssertionError.wrap(driver(), error, timeoutMs);
       SelenideLogger.commitStep(log, wrappedError);
-      if (config().assertionMode() == SOFT && methodsForSoftAssertion.contains(method.getName()))
+      if (config().assertionMode() == SOFT && methodInfo.softAssertion)
         return proxy;
       else
         throw wrappedError;
@@ -88,25 +148,30 @@ class SelenideElementProxy implements InvocationHandler {
     return driver().config();
   }
 
-  protected Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
-                                    Object proxy, Method method, Object[] args) throws Throwable {
+  private Object dispatchAndRetry(long timeoutMs, PollingStrategy pollingStrategy, long pollingIntervalMs,
+                                  Object proxy, MethodInfo methodInfo, Object[] args) throws Throwable {
     Stopwatch stopwatch = new Stopwatch(timeoutMs);
 
+    int attempt = 0;
     Throwable lastError;
     do {
       try {
-        if (SelenideElement.class.isAssignableFrom(method.getDeclaringClass())) {
-          return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+        if (methodInfo.command != null) {
+          return driver().commands().execute(proxy, webElementSource, methodInfo.command, args);
         }
 
-        return method.invoke(webElementSource.getWebElement(), args);
-      }
-      catch (InvocationTargetException e) {
-        lastError = e.getTargetException();
+        WebElement element = webElementSource.getWebElement();
+        try {
+          return (Object) methodInfo.webElementMethod.invokeExact((Object) element, args);
+        }
+        catch (Throwable e) {
+          lastError = e;
+        }
       }
       catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
         lastError = e;
       }
+      webElementSource.forgetCachedElement();
 
       if (Cleanup.of.isInvalidSelectorError(lastError)) {
         throw Cleanup.of.wrap(lastError);
@@ -114,7 +179,10 @@ class SelenideElementProxy implements InvocationHandler {
       else if (!shouldRetryAfterError(lastError)) {
         throw lastError;
       }
-      stopwatch.sleep(pollingIntervalMs);
+      attempt++;
+      if (!waitInBrowser(methodInfo, args, lastError, stopwatch, pollingIntervalMs)) {
+        stopwatch.sleep(pollingStrategy.interval(attempt, pollingIntervalMs));
+      }
     }
     while (!stopwatch.isTimeoutReached());
 
@@ -133,6 +201,18 @@ class SelenideElementProxy implements InvocationHandler {
     throw lastError;
   }
 
+  /**
+   * If {@code config.waitViaJs} is enabled, {@code should*} methods wait in browser until the found element
+   * matches the condition - instead of sleeping for polling interval.
+   */
+  private boolean waitInBrowser(MethodInfo methodInfo, Object[] args, Throwable lastError,
+                                Stopwatch stopwatch, long pollingIntervalMs) {
+    return methodInfo.softAssertion && config().waitViaJs() &&
+      (lastError instanceof ElementShould || lastError instanceof ElementShouldNot) &&
+      MutationObserverWait.instance.await(webElementSource, args, methodInfo.inverted,
+        stopwatch.getRemainingMs(), pollingIntervalMs);
+  }
+
   private boolean isElementNotClickableException(Throwable e) {
     return e instanceof WebDriverException && e.getMessage().contains("is not clickable");
   }
@@ -146,17 +226,70 @@ class SelenideElementProxy implements InvocationHandler {
     return e instanceof Exception || e instanceof AssertionError;
   }
 
-  private long getTimeoutMs(Method method, Object[] args) {
-    return isWaitCommand(method) ?
+  private long getTimeoutMs(MethodInfo method, Object[] args) {
+    return method.waitCommand ?
       args.length == 3 ? (Long) args[args.length - 2] : (Long) args[args.length - 1] :
       config().timeout();
   }
 
-  private long getPollingIntervalMs(Method method, Object[] args) {
-    return isWaitCommand(method) && args.length == 3 ? (Long) args[args.length - 1] : config().pollingInterval();
+  private long getPollingIntervalMs(MethodInfo method, Object[] args) {
+    return method.waitCommand && args.length == 3 ? (Long) args[args.length - 1] : config().pollingInterval();
+  }
+
+  /**
+   * If user explicitly gave polling interval to {@code waitUntil}/{@code waitWhile}, it's used as is.
+   */
+  private PollingStrategy getPollingStrategy(MethodInfo method, Object[] args) {
+    return method.waitCommand && args.length == 3 ? PollingStrategy.constant() : config().pollingStrategy();
   }
 
-  private boolean isWaitCommand(Method method) {
-    return "waitUntil".equals(method.getName()) || "waitWhile".equals(method.getName());
+  private static MethodInfo methodInfo(Method method) {
+    MethodInfo methodInfo = methods.get(method);
+    if (methodInfo == null) {
+      methodInfo = new MethodInfo(method);
+      methods.putIfAbsent(method, methodInfo);
+    }
+    return methodInfo;
+  }
+
+  private static class MethodInfo {
+    private final String name;
+    private final boolean skipLogging;
+    private final boolean softAssertion;
+    private final boolean waitCommand;
+    private final boolean inverted;
+
+    /**
+     * Selenide command implementing the method, or null if the method is called on the WebElement itself
+     */
+    private final Commands.Slot command;
+
+    /**
+     * WebElement method as {@code (Object element, Object[] args) -> Object}, or null for Selenide commands
+     */
+    private final MethodHandle webElementMethod;
+
+    private MethodInfo(Method method) {
+      name = method.getName();
+      skipLogging = methodsToSkipLogging.contains(name);
+      softAssertion = methodsForSoftAssertion.contains(name);
+      waitCommand = "waitUntil".equals(name) || "waitWhile".equals(name);
+      inverted = name.startsWith("shouldNot") || "waitWhile".equals(name);
+      command = skipLogging || SelenideElement.class.isAssignableFrom(method.getDeclaringClass()) ?
+        Commands.slot(name) : null;
+      webElementMethod = command == null ? webElementMethod(method) : null;
+    }
+
+    private static MethodHandle webElementMethod(Method method) {
+      try {
+        int parameterCount = method.getParameterCount();
+        return MethodHandles.publicLookup().unreflect(method)
+          .asType(MethodType.genericMethodType(parameterCount + 1))
+          .asSpreader(Object[].class, parameterCount);
+      }
+      catch (IllegalAccessException e) {
+        throw new IllegalStateException("Cannot call method " + method, e);
+      }
+    }
   }
 }
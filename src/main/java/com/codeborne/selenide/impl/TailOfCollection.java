@@ -20,6 +20,11 @@ public class TailOfCollection implements WebElementsCollection {
     return source.subList(source.size() - Math.min(source.size(), size), source.size());
   }
 
+  @Override
+  public int size() {
+    return Math.min(originalCollection.size(), size);
+  }
+
   @Override
   public String description() {
     return originalCollection.description() + ".last(" + size + ')';
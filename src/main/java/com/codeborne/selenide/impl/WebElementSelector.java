@@ -1,28 +1,49 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.io.IOUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.By.ByCssSelector;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.logging.Logger;
 
 import static com.codeborne.selenide.SelectorMode.CSS;
 import static java.lang.Thread.currentThread;
+import static java.util.logging.Level.FINE;
 
 /**
  * Thanks to http://selenium.polteq.com/en/injecting-the-sizzle-css-selector-library/
+ *
+ * Sizzle is injected to the page together with the first query (in a single JavaScript call).
+ * Following queries on the same page take a single call too.
  */
 public class WebElementSelector {
+  private static final Logger log = Logger.getLogger(WebElementSelector.class.getName());
+
   public static WebElementSelector instance = new WebElementSelector();
 
+  private static final String FIRST_BY_CSS = "return (arguments[1] || document).querySelector(arguments[0]);";
+  private static final String FIRST_BY_XPATH = "var node = document.evaluate(arguments[0], arguments[1] || document, null," +
+      " XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+      "if (node && node.nodeType != 1) throw new Error('Not an element: ' + node);" +
+      "return node;";
+
   protected String sizzleSource;
 
+  /**
+   * Version of page (see {@link ElementCache}) where Sizzle has been injected - for every webdriver
+   */
+  private final Cache<WebDriver, Long> sizzlePages = CacheBuilder.newBuilder().weakKeys().build();
+
   public WebElement findElement(Driver driver, SearchContext context, By selector) {
     if (driver.config().selectorMode() == CSS || !(selector instanceof ByCssSelector)) {
       return context.findElement(selector);
@@ -40,34 +61,84 @@ public class WebElementSelector {
     return evaluateSizzleSelector(driver, context, (ByCssSelector) selector);
   }
 
-  protected List<WebElement> evaluateSizzleSelector(Driver driver, SearchContext context, ByCssSelector sizzleCssSelector) {
-    injectSizzleIfNeeded(driver);
+  /**
+   * Finds the first element with a single JavaScript call which returns only this element, not a list of all matches.
+   * It's cheap enough to be called on every check while waiting for the element to appear (or disappear).
+   * Only plain CSS and XPath selectors are checked in browser, other selectors are found with {@link #findElements}.
+   *
+   * @return the first matching element, or null if there are no matching elements
+   */
+  public WebElement findFirstElementOrNull(Driver driver, SearchContext context, By selector) {
+    String script = findFirstScript(driver, context, selector);
+    if (script != null) {
+      try {
+        return driver.executeJavaScript(script, selectorValue(selector), context instanceof WebElement ? context : null);
+      }
+      catch (WebDriverException e) {
+        log.log(FINE, "Failed to find element " + selector + " in browser", e);
+      }
+    }
+    List<WebElement> elements = findElements(driver, context, selector);
+    return elements.isEmpty() ? null : elements.get(0);
+  }
 
+  private String findFirstScript(Driver driver, SearchContext context, By selector) {
+    if (!driver.supportsJavascript() || !(context instanceof WebElement || context instanceof WebDriver)) {
+      return null;
+    }
+    if (selector.getClass() == ByCssSelector.class && driver.config().selectorMode() == CSS) {
+      return FIRST_BY_CSS;
+    }
+    if (selector.getClass() == By.ByXPath.class) {
+      return FIRST_BY_XPATH;
+    }
+    return null;
+  }
+
+  /**
+   * @return CSS selector or XPath without prefix like "By.cssSelector: "
+   */
+  static String selectorValue(By selector) {
+    String value = selector.toString();
+    return value.substring(value.indexOf(": ") + 2);
+  }
+
+  protected List<WebElement> evaluateSizzleSelector(Driver driver, SearchContext context, ByCssSelector sizzleCssSelector) {
     String sizzleSelector = sizzleCssSelector.toString()
         .replace("By.selector: ", "")
         .replace("By.cssSelector: ", "");
 
-    if (context instanceof WebElement)
-      return driver.executeJavaScript("return Sizzle(arguments[0], arguments[1])", sizzleSelector, context);
-    else
-      return driver.executeJavaScript("return Sizzle(arguments[0])", sizzleSelector);
-  }
+    String query = "return Sizzle(arguments[0], arguments[1]);";
+    Object[] arguments = context instanceof WebElement ?
+        new Object[] {sizzleSelector, context} :
+        new Object[] {sizzleSelector};
 
-  protected void injectSizzleIfNeeded(Driver driver) {
-    if (!sizzleLoaded(driver)) {
-      injectSizzle(driver);
+    WebDriver webDriver = driver.getWebDriver();
+    if (isSizzleInjected(webDriver)) {
+      List<WebElement> elements = driver.executeJavaScript("if (typeof Sizzle == 'undefined') return null;\n" + query,
+          arguments);
+      if (elements != null) {
+        return elements;
+      }
     }
+
+    long pageVersion = ElementCache.currentPageVersion(webDriver);
+    List<WebElement> elements = driver.executeJavaScript(getSizzleSource() + "\n;" + query, arguments);
+    sizzlePages.put(webDriver, pageVersion);
+    return elements;
   }
 
-  protected Boolean sizzleLoaded(Driver driver) {
-    try {
-      return driver.executeJavaScript("return typeof Sizzle != 'undefined'");
-    } catch (WebDriverException e) {
-      return false;
-    }
+  /**
+   * Sizzle stays in the page until the browser opens another page or switches to another frame/window
+   * (see {@link ElementCache#invalidate(Driver)}). If the page has been changed otherwise (e.g. by clicking a link),
+   * query script finds out that Sizzle is missing, and Sizzle is injected again.
+   */
+  private boolean isSizzleInjected(WebDriver webDriver) {
+    Long pageVersion = sizzlePages.getIfPresent(webDriver);
+    return pageVersion != null && pageVersion == ElementCache.currentPageVersion(webDriver);
   }
 
-  protected synchronized void injectSizzle(Driver driver) {
+  protected synchronized String getSizzleSource() {
     if (sizzleSource == null) {
       try {
         sizzleSource = IOUtils.toString(currentThread().getContextClassLoader().getResource("sizzle.js"), StandardCharsets.UTF_8);
@@ -75,6 +146,6 @@ public class WebElementSelector {
         throw new RuntimeException("Cannot load sizzle.js from classpath", e);
       }
     }
-    driver.executeJavaScript(sizzleSource);
+    return sizzleSource;
   }
 }
@@ -7,6 +7,7 @@ import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.ElementShould;
 import com.codeborne.selenide.ex.ElementShouldNot;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
@@ -25,6 +26,28 @@ public abstract class WebElementSource {
 
   public abstract String getSearchCriteria();
 
+  /**
+   * Finds the element like {@link #getWebElement()}, but doesn't fail if the element doesn't exist (yet).
+   * It's used for polling, when absent element is an expected state and not an error.
+   *
+   * @return null if element is not found
+   */
+  public WebElement getWebElementOrNull() {
+    try {
+      return getWebElement();
+    }
+    catch (NoSuchElementException | IndexOutOfBoundsException notFound) {
+      return null;
+    }
+  }
+
+  /**
+   * Forget the web element found by previous commands (if this source caches it).
+   * Next call to {@link #getWebElement()} will search the element again.
+   */
+  public void forgetCachedElement() {
+  }
+
   public SelenideElement find(SelenideElement proxy, Object arg, int index) {
     return ElementFinder.wrap(driver(), proxy, getSelector(arg), index);
   }
@@ -46,10 +69,20 @@ public abstract class WebElementSource {
 
     Throwable lastError = null;
     WebElement element = null;
+    Condition reported = condition;
+    if (check.applyNull()) {
+      forgetCachedElement();
+    }
     try {
-      element = getWebElement();
-      if (element != null && check.apply(driver(), element)) {
-        return element;
+      element = getWebElementOrNull();
+      if (element != null) {
+        Boolean matches = ConditionCompiler.instance.applyInBrowser(driver(), element, check);
+        if (matches == null ? check.apply(driver(), element) : matches) {
+          return element;
+        }
+        if (matches != null) {
+          reported = ConditionCompiler.instance.explain(driver(), element, condition);
+        }
       }
     }
     catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
@@ -66,10 +99,10 @@ public abstract class WebElementSource {
       }
     }
     else if (invert) {
-      throw new ElementShouldNot(driver(), getSearchCriteria(), prefix, message, condition, element, lastError);
+      throw new ElementShouldNot(driver(), getSearchCriteria(), prefix, message, reported, element, lastError);
     }
     else {
-      throw new ElementShould(driver(), getSearchCriteria(), prefix, message, condition, element, lastError);
+      throw new ElementShould(driver(), getSearchCriteria(), prefix, message, reported, element, lastError);
     }
     return null;
   }
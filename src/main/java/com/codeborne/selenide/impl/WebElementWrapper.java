@@ -4,15 +4,11 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.WebElement;
 
-import java.lang.reflect.Proxy;
-
 public class WebElementWrapper extends WebElementSource {
   public static SelenideElement wrap(Driver driver, WebElement element) {
     return element instanceof SelenideElement ?
         (SelenideElement) element :
-        (SelenideElement) Proxy.newProxyInstance(
-            element.getClass().getClassLoader(), new Class<?>[]{SelenideElement.class},
-            new SelenideElementProxy(new WebElementWrapper(driver, element)));
+        SelenideElementProxy.wrap(SelenideElement.class, new WebElementWrapper(driver, element));
   }
 
   private final Driver driver;
@@ -11,6 +11,14 @@ public interface WebElementsCollection {
    */
   List<WebElement> getElements();
 
+  /**
+   * Count elements of this collection.
+   * Collections which can count elements without fetching them from webdriver override this method.
+   */
+  default int size() {
+    return getElements().size();
+  }
+
   String description();
 
   Driver driver();
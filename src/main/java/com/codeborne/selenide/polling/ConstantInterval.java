@@ -0,0 +1,15 @@
+package com.codeborne.selenide.polling;
+
+import com.codeborne.selenide.PollingStrategy;
+
+public class ConstantInterval implements PollingStrategy {
+  @Override
+  public long interval(int attempt, long pollingInterval) {
+    return pollingInterval;
+  }
+
+  @Override
+  public String toString() {
+    return "constant";
+  }
+}
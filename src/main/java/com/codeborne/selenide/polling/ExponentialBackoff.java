@@ -0,0 +1,33 @@
+package com.codeborne.selenide.polling;
+
+import com.codeborne.selenide.PollingStrategy;
+
+public class ExponentialBackoff implements PollingStrategy {
+  private final long initialIntervalMs;
+  private final long maxIntervalMs;
+
+  public ExponentialBackoff(long initialIntervalMs, long maxIntervalMs) {
+    if (initialIntervalMs <= 0) {
+      throw new IllegalArgumentException("Initial interval should be positive, but given: " + initialIntervalMs);
+    }
+    if (maxIntervalMs < initialIntervalMs) {
+      throw new IllegalArgumentException("Max interval " + maxIntervalMs + " is less than initial interval " + initialIntervalMs);
+    }
+    this.initialIntervalMs = initialIntervalMs;
+    this.maxIntervalMs = maxIntervalMs;
+  }
+
+  @Override
+  public long interval(int attempt, long pollingInterval) {
+    long interval = initialIntervalMs;
+    for (int i = 1; i < attempt && interval < maxIntervalMs; i++) {
+      interval *= 2;
+    }
+    return Math.min(interval, maxIntervalMs);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("exponential backoff %s..%s ms", initialIntervalMs, maxIntervalMs);
+  }
+}
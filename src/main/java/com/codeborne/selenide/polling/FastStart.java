@@ -0,0 +1,29 @@
+package com.codeborne.selenide.polling;
+
+import com.codeborne.selenide.PollingStrategy;
+
+public class FastStart implements PollingStrategy {
+  private final int fastAttempts;
+  private final long fastIntervalMs;
+
+  public FastStart(int fastAttempts, long fastIntervalMs) {
+    if (fastAttempts < 0) {
+      throw new IllegalArgumentException("Number of fast attempts should not be negative, but given: " + fastAttempts);
+    }
+    if (fastIntervalMs < 0) {
+      throw new IllegalArgumentException("Fast interval should not be negative, but given: " + fastIntervalMs);
+    }
+    this.fastAttempts = fastAttempts;
+    this.fastIntervalMs = fastIntervalMs;
+  }
+
+  @Override
+  public long interval(int attempt, long pollingInterval) {
+    return attempt <= fastAttempts ? Math.min(fastIntervalMs, pollingInterval) : pollingInterval;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("first %s attempts every %s ms", fastAttempts, fastIntervalMs);
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ * Implementation of built-in Selenide polling strategies.
+ */
+package com.codeborne.selenide.polling;
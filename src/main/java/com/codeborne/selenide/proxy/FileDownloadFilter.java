@@ -3,32 +3,73 @@ package com.codeborne.selenide.proxy;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.impl.Downloader;
 import com.codeborne.selenide.impl.HttpHelper;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import net.lightbody.bmp.filters.HttpsAwareFiltersAdapter;
+import net.lightbody.bmp.exception.UnsupportedCharsetException;
 import net.lightbody.bmp.filters.ResponseFilter;
+import net.lightbody.bmp.util.BrowserMobHttpUtil;
 import net.lightbody.bmp.util.HttpMessageContents;
 import net.lightbody.bmp.util.HttpMessageInfo;
-import org.apache.commons.io.FileUtils;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class FileDownloadFilter implements ResponseFilter {
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+/**
+ * Intercepts files downloaded via proxy.
+ *
+ * Response bodies are not collected in memory: {@link SelenideProxyServer} adds this filter as {@link org.littleshoot.proxy.HttpFiltersSource},
+ * and body of response with "Content-Disposition" header is written to the target file chunk by chunk
+ * (gzip- or deflate-encoded body is decompressed on the fly).
+ * {@link #filterResponse} is used only if the filter is added as usual {@link ResponseFilter}.
+ */
+public class FileDownloadFilter extends HttpFiltersSourceAdapter implements ResponseFilter {
   private static final Logger log = Logger.getLogger(FileDownloadFilter.class.getName());
+
+  /**
+   * Intercepted responses are kept only for debugging, so we don't need all of them.
+   */
+  static final int MAX_RESPONSES = 200;
+
   private final Config config;
   private final Downloader downloader;
 
   private HttpHelper httpHelper = new HttpHelper();
-  private boolean active;
+  private volatile boolean active;
+  private final Object downloadsLock = new Object();
   private final List<File> downloadedFiles = new ArrayList<>();
-  private final List<Response> responses = new ArrayList<>();
+  private final ResponseJournal responses = new ResponseJournal(MAX_RESPONSES);
+  private volatile int maxCapturedContentSize;
+  private volatile List<String> capturedContentTypes = emptyList();
 
   public FileDownloadFilter(Config config) {
     this(config, new Downloader());
@@ -45,7 +86,9 @@ public class FileDownloadFilter implements ResponseFilter {
    * These responses are supposed to contain a file being downloaded.
    */
   public void activate() {
-    downloadedFiles.clear();
+    synchronized (downloadsLock) {
+      downloadedFiles.clear();
+    }
     responses.clear();
     active = true;
   }
@@ -58,31 +101,76 @@ public class FileDownloadFilter implements ResponseFilter {
     active = false;
   }
 
+  /**
+   * Record content of intercepted responses (in addition to url, status, headers and size),
+   * so that it's shown in {@link #getResponses()}. By default, content is not recorded.
+   *
+   * @param maxSize content of larger responses is not recorded
+   * @param contentTypes content types (or their prefixes like "text/") of responses whose content is recorded
+   */
+  public void captureResponseContent(int maxSize, String... contentTypes) {
+    maxCapturedContentSize = maxSize;
+    capturedContentTypes = asList(contentTypes);
+  }
+
+  private boolean shouldCaptureContent(String contentType, long contentLength) {
+    if (contentType == null || contentLength > maxCapturedContentSize) return false;
+    for (String capturedContentType : capturedContentTypes) {
+      if (contentType.startsWith(capturedContentType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Charset charset(String contentType) {
+    try {
+      Charset charset = BrowserMobHttpUtil.readCharsetInContentTypeHeader(contentType);
+      return charset == null ? BrowserMobHttpUtil.DEFAULT_HTTP_CHARSET : charset;
+    }
+    catch (UnsupportedCharsetException e) {
+      return BrowserMobHttpUtil.DEFAULT_HTTP_CHARSET;
+    }
+  }
+
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    return active ? new ResponseCapture(originalRequest, ctx) : null;
+  }
+
   @Override
   public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
     if (!active) return;
-    responses.add(new Response(messageInfo.getUrl(),
+    DownloadedFile file = startDownload(response, messageInfo.getUrl());
+    if (file != null) {
+      file.write(ByteBuffer.wrap(contents.getBinaryContents()));
+      file.finish();
+    }
+    byte[] content = contents.getBinaryContents();
+    String contentType = contents.getContentType();
+    boolean captureContent = shouldCaptureContent(contentType, content.length);
+    responses.add(new ResponseJournal.Response(messageInfo.getUrl(),
         response.getStatus().code(),
         response.getStatus().reasonPhrase(),
         toMap(response.headers()),
-        contents.getContentType(),
-        contents.getTextContents()
+        contentType,
+        content.length,
+        -1,
+        captureContent ? content : null,
+        captureContent ? charset(contentType) : null
     ));
+  }
 
-    if (response.getStatus().code() < 200 || response.getStatus().code() >= 300) return;
+  /**
+   * @return null if response doesn't contain a file
+   */
+  private DownloadedFile startDownload(HttpResponse response, String url) {
+    if (response.getStatus().code() < 200 || response.getStatus().code() >= 300) return null;
 
     String fileName = getFileName(response);
-    if (fileName == null) return;
+    if (fileName == null) return null;
 
-    File file = downloader.prepareTargetFile(config, fileName);
-    try {
-      FileUtils.writeByteArrayToFile(file, contents.getBinaryContents());
-      downloadedFiles.add(file);
-    }
-    catch (IOException e) {
-      log.log(Level.SEVERE, "Failed to save downloaded file to " + file.getAbsolutePath() +
-          " for url " + messageInfo.getUrl(), e);
-    }
+    return new DownloadedFile(downloader.prepareTargetFile(config, fileName), url);
   }
 
   private Map<String, String> toMap(HttpHeaders headers) {
@@ -97,7 +185,51 @@ public class FileDownloadFilter implements ResponseFilter {
    * @return list of all downloaded files since activation.
    */
   public List<File> getDownloadedFiles() {
-    return downloadedFiles;
+    synchronized (downloadsLock) {
+      return new ArrayList<>(downloadedFiles);
+    }
+  }
+
+  /**
+   * Waits until given number of files matching given filter is downloaded.
+   * Returns as soon as the last of them is completely written to disk (without polling).
+   *
+   * @return downloaded files matching the filter - there may be less than {@code count} of them if timeout is reached
+   */
+  public List<File> awaitDownloadedFiles(int count, Predicate<File> fileFilter, long timeoutMs) {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    synchronized (downloadsLock) {
+      List<File> files = filter(fileFilter);
+      for (long remaining = timeoutMs; files.size() < count && remaining > 0;
+           remaining = deadline - System.currentTimeMillis()) {
+        try {
+          downloadsLock.wait(remaining);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException(e);
+        }
+        files = filter(fileFilter);
+      }
+      return files;
+    }
+  }
+
+  private List<File> filter(Predicate<File> fileFilter) {
+    List<File> files = new ArrayList<>(downloadedFiles.size());
+    for (File file : downloadedFiles) {
+      if (fileFilter.test(file)) {
+        files.add(file);
+      }
+    }
+    return files;
+  }
+
+  private void addDownloadedFile(File file) {
+    synchronized (downloadsLock) {
+      downloadedFiles.add(file);
+      downloadsLock.notifyAll();
+    }
   }
 
   String getFileName(HttpResponse response) {
@@ -115,37 +247,220 @@ public class FileDownloadFilter implements ResponseFilter {
    * @return all intercepted http response (as a string) - it can be useful for debugging
    */
   public String getResponses() {
-    StringBuilder sb = new StringBuilder();
-    sb.append("Intercepted ").append(responses.size()).append(" responses.");
+    return responses.toString();
+  }
+
+  /**
+   * Receives response from server in chunks (as they come), writes file content to disk and counts response size
+   */
+  private class ResponseCapture extends HttpsAwareFiltersAdapter {
+    private final long start = System.currentTimeMillis();
+    private HttpResponse response;
+    private String url;
+    private DownloadedFile file;
+    private EmbeddedChannel decoder;
+    private long contentLength;
+    private ByteArrayOutputStream content;
+
+    private ResponseCapture(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+      super(originalRequest, ctx);
+    }
+
+    @Override
+    public HttpObject serverToProxyResponse(HttpObject httpObject) {
+      if (httpObject instanceof HttpResponse) {
+        response = (HttpResponse) httpObject;
+        url = getOriginalUrl();
+        file = active ? startDownload(response, url) : null;
+        decoder = file == null ? null : createDecoder(response);
+        contentLength = 0;
+        content = shouldCaptureContent(contentType(), HttpHeaders.getContentLength(response, 0)) &&
+            !response.headers().contains(HttpHeaders.Names.CONTENT_ENCODING) ? new ByteArrayOutputStream() : null;
+      }
+      if (httpObject instanceof HttpContent && response != null) {
+        ByteBuf chunk = ((HttpContent) httpObject).content();
+        contentLength += chunk.readableBytes();
+        if (file != null) {
+          writeToFile(chunk);
+        }
+        captureContent(chunk);
+      }
+      if (httpObject instanceof LastHttpContent && response != null) {
+        finish();
+      }
+      return super.serverToProxyResponse(httpObject);
+    }
+
+    @Override
+    public void serverToProxyResponseTimedOut() {
+      if (file != null) {
+        file.abort("response timed out");
+      }
+      releaseDecoder();
+    }
 
-    for (Response response : responses) {
-      sb.append("\n  ").append(response).append("\n");
+    /**
+     * @return decoder of compressed response body, or null if the body is not compressed
+     */
+    private EmbeddedChannel createDecoder(HttpResponse response) {
+      String encoding = response.headers().get(HttpHeaders.Names.CONTENT_ENCODING);
+      if (encoding == null) return null;
+
+      switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+        case "gzip":
+        case "x-gzip":
+          return new EmbeddedChannel(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP));
+        case "deflate":
+        case "x-deflate":
+          return new EmbeddedChannel(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.ZLIB_OR_NONE));
+        case "identity":
+        case "":
+          return null;
+        default:
+          log.warning("Unsupported content encoding " + encoding + " of file " + url + ", saving it as is");
+          return null;
+      }
+    }
+
+    private void writeToFile(ByteBuf chunk) {
+      if (decoder == null) {
+        write(chunk);
+        return;
+      }
+      try {
+        decoder.writeInbound(chunk.duplicate().retain());
+        writeDecoded();
+      }
+      catch (RuntimeException e) {
+        file.abort("failed to decompress: " + e);
+        releaseDecoder();
+      }
+    }
+
+    private void writeDecoded() {
+      for (ByteBuf decoded = (ByteBuf) decoder.readInbound(); decoded != null; decoded = (ByteBuf) decoder.readInbound()) {
+        try {
+          write(decoded);
+        }
+        finally {
+          decoded.release();
+        }
+      }
+    }
+
+    private void write(ByteBuf buf) {
+      for (ByteBuffer buffer : buf.nioBuffers()) {
+        file.write(buffer);
+      }
+    }
+
+    private void releaseDecoder() {
+      if (decoder != null) {
+        decoder.finishAndReleaseAll();
+        decoder = null;
+      }
+    }
+
+    private void finish() {
+      if (decoder != null) {
+        try {
+          decoder.finish();
+          writeDecoded();
+        }
+        catch (RuntimeException e) {
+          file.abort("failed to decompress: " + e);
+        }
+        releaseDecoder();
+      }
+      if (file != null) {
+        file.finish();
+      }
+      if (active) {
+        String contentType = contentType();
+        responses.add(new ResponseJournal.Response(url, response.getStatus().code(), response.getStatus().reasonPhrase(),
+            toMap(response.headers()), contentType, contentLength, System.currentTimeMillis() - start,
+            content == null ? null : content.toByteArray(), content == null ? null : charset(contentType)));
+      }
+      response = null;
+      file = null;
+      content = null;
+    }
+
+    private String contentType() {
+      return response.headers().get(HttpHeaders.Names.CONTENT_TYPE);
+    }
+
+    private void captureContent(ByteBuf chunk) {
+      if (content == null) return;
+      if (contentLength > maxCapturedContentSize) {
+        content = null;
+        return;
+      }
+      byte[] bytes = new byte[chunk.readableBytes()];
+      chunk.getBytes(chunk.readerIndex(), bytes);
+      content.write(bytes, 0, bytes.length);
     }
-    return sb.toString();
   }
 
-  private static class Response {
-    private String url;
-    private int code;
-    private String reasonPhrase;
-    private String contentType;
-    private Map<String, String> headers;
-    private String content;
-
-    private Response(String url, int code, String reasonPhrase, Map<String, String> headers,
-                     String contentType, String content) {
+  private class DownloadedFile {
+    private final File file;
+    private final String url;
+    private FileChannel channel;
+
+    private DownloadedFile(File file, String url) {
+      this.file = file;
       this.url = url;
-      this.code = code;
-      this.reasonPhrase = reasonPhrase;
-      this.headers = headers;
-      this.contentType = contentType;
-      this.content = content;
+      try {
+        channel = FileChannel.open(file.toPath(), CREATE_NEW, WRITE);
+      }
+      catch (IOException e) {
+        failed(e);
+      }
     }
 
-    @Override
-    public String toString() {
-      return url + " -> " + code + " \"" + reasonPhrase + "\" " + headers + " " +
-          contentType + " " + " (" + content.length() + " bytes)";
+    private void write(ByteBuffer buffer) {
+      if (channel == null) return;
+      try {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      catch (IOException e) {
+        failed(e);
+      }
+    }
+
+    private void finish() {
+      if (channel == null) return;
+      try {
+        channel.close();
+        channel = null;
+        addDownloadedFile(file);
+      }
+      catch (IOException e) {
+        failed(e);
+      }
+    }
+
+    private void abort(String reason) {
+      log.severe("Failed to download file " + file.getAbsolutePath() + " from url " + url + ": " + reason);
+      close();
+    }
+
+    private void failed(IOException e) {
+      log.log(Level.SEVERE, "Failed to save downloaded file to " + file.getAbsolutePath() + " for url " + url, e);
+      close();
+    }
+
+    private void close() {
+      if (channel != null) {
+        try {
+          channel.close();
+        }
+        catch (IOException ignore) {
+        }
+        channel = null;
+      }
     }
   }
 }
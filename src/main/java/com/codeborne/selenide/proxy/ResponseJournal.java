@@ -0,0 +1,90 @@
+package com.codeborne.selenide.proxy;
+
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * Last responses intercepted by {@link FileDownloadFilter} (used only for debugging failed downloads).
+ *
+ * Keeps at most {@code capacity} responses - older ones are dropped.
+ * Responses are added by proxy threads while test thread reads them, so all methods are synchronized.
+ */
+class ResponseJournal {
+  private final int capacity;
+  private final Deque<Response> responses = new ArrayDeque<>();
+  private int dropped;
+
+  ResponseJournal(int capacity) {
+    this.capacity = capacity;
+  }
+
+  synchronized void add(Response response) {
+    if (responses.size() >= capacity) {
+      responses.removeFirst();
+      dropped++;
+    }
+    responses.addLast(response);
+  }
+
+  synchronized void clear() {
+    responses.clear();
+    dropped = 0;
+  }
+
+  synchronized int size() {
+    return dropped + responses.size();
+  }
+
+  @Override
+  public synchronized String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Intercepted ").append(dropped + responses.size()).append(" responses.");
+    if (dropped > 0) {
+      sb.append(" Only the last ").append(responses.size()).append(" are shown.");
+    }
+
+    for (Response response : responses) {
+      sb.append("\n  ").append(response).append("\n");
+    }
+    return sb.toString();
+  }
+
+  static class Response {
+    private final String url;
+    private final int code;
+    private final String reasonPhrase;
+    private final String contentType;
+    private final Map<String, String> headers;
+    private final long contentLength;
+    private final long durationMs;
+    private final byte[] content;
+    private final Charset charset;
+
+    /**
+     * @param durationMs time from request till the last byte of response, or -1 if unknown
+     * @param content captured response content (or null if it's not captured)
+     */
+    Response(String url, int code, String reasonPhrase, Map<String, String> headers, String contentType,
+             long contentLength, long durationMs, byte[] content, Charset charset) {
+      this.url = url;
+      this.code = code;
+      this.reasonPhrase = reasonPhrase;
+      this.headers = headers;
+      this.contentType = contentType;
+      this.contentLength = contentLength;
+      this.durationMs = durationMs;
+      this.content = content;
+      this.charset = charset;
+    }
+
+    @Override
+    public String toString() {
+      return url + " -> " + code + " \"" + reasonPhrase + "\" " + headers + " " +
+          contentType + " " + " (" + contentLength + " bytes)" +
+          (durationMs < 0 ? "" : " in " + durationMs + " ms") +
+          (content == null ? "" : "\n  " + new String(content, charset));
+    }
+  }
+}
@@ -1,18 +1,37 @@
 package com.codeborne.selenide.proxy;
 
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import net.lightbody.bmp.filters.HttpsAwareFiltersAdapter;
 import net.lightbody.bmp.filters.ResponseFilter;
 import net.lightbody.bmp.util.HttpMessageContents;
 import net.lightbody.bmp.util.HttpMessageInfo;
+import org.littleshoot.proxy.HttpFilters;
+import org.littleshoot.proxy.HttpFiltersSourceAdapter;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class ResponseSizeWatchdog implements ResponseFilter {
+/**
+ * Warns about too large responses.
+ *
+ * When added to proxy as {@link org.littleshoot.proxy.HttpFiltersSource}, it only counts bytes of response chunks
+ * (without collecting response content in memory).
+ */
+public class ResponseSizeWatchdog extends HttpFiltersSourceAdapter implements ResponseFilter {
   private static final Logger log = Logger.getLogger(ResponseSizeWatchdog.class.getName());
 
   int threshold = 2 * 1024 * 1024; // 2 MB
 
+  @Override
+  public HttpFilters filterRequest(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+    return new SizeCounter(originalRequest, ctx);
+  }
+
   @Override
   public void filterResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo messageInfo) {
     if (contents.getBinaryContents().length > threshold) {
@@ -22,4 +41,27 @@ public class ResponseSizeWatchdog implements ResponseFilter {
       }
     }
   }
+
+  private class SizeCounter extends HttpsAwareFiltersAdapter {
+    private long size;
+
+    private SizeCounter(HttpRequest originalRequest, ChannelHandlerContext ctx) {
+      super(originalRequest, ctx);
+    }
+
+    @Override
+    public HttpObject serverToProxyResponse(HttpObject httpObject) {
+      if (httpObject instanceof HttpResponse) {
+        size = 0;
+      }
+      if (httpObject instanceof HttpContent) {
+        size += ((HttpContent) httpObject).content().readableBytes();
+      }
+      if (httpObject instanceof LastHttpContent && size > threshold) {
+        log.warning("Too large response " + getOriginalUrl() +
+            ": " + size + " bytes");
+      }
+      return super.serverToProxyResponse(httpObject);
+    }
+  }
 }
@@ -5,13 +5,17 @@ import net.lightbody.bmp.BrowserMobProxy;
 import net.lightbody.bmp.client.ClientUtil;
 import net.lightbody.bmp.filters.RequestFilter;
 import net.lightbody.bmp.filters.ResponseFilter;
+import org.littleshoot.proxy.HttpFiltersSource;
 import org.openqa.selenium.Proxy;
 
 import java.net.InetSocketAddress;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static java.lang.Integer.parseInt;
+import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 /**
@@ -20,6 +24,9 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
  * It holds map of request and response filters by name.
  */
 public class SelenideProxyServer {
+  private static final Set<String> BUILT_IN_REQUEST_FILTERS = new HashSet<>(asList("authentication", "requestSizeWatchdog"));
+  private static final Set<String> BUILT_IN_RESPONSE_FILTERS = new HashSet<>(asList("responseSizeWatchdog", "download"));
+
   private final Config config;
   private final InetAddressResolver inetAddressResolver;
   private final Proxy outsideProxy;
@@ -90,6 +97,9 @@ public class SelenideProxyServer {
   /**
    * Add a custom response filter which allows to track/modify all server responses to browser
    *
+   * If the filter is also a {@link HttpFiltersSource}, it's added as such and receives response chunks as they come
+   * (response content is not aggregated in memory for it).
+   *
    * @param name unique name of filter
    * @param responseFilter the filter
    */
@@ -97,7 +107,12 @@ public class SelenideProxyServer {
     if (responseFilters.containsKey(name)) {
       throw new IllegalArgumentException("Duplicate response filter: " + name);
     }
-    proxy.addResponseFilter(responseFilter);
+    if (responseFilter instanceof HttpFiltersSource) {
+      proxy.addLastHttpFilterFactory((HttpFiltersSource) responseFilter);
+    }
+    else {
+      proxy.addResponseFilter(responseFilter);
+    }
     responseFilters.put(name, responseFilter);
   }
 
@@ -117,6 +132,24 @@ public class SelenideProxyServer {
       : ClientUtil.createSeleniumProxy(proxy, inetAddressResolver.getInetAddressByName(config.proxyHost()));
   }
 
+  /**
+   * Resets state of built-in filters (authentication, file download), so that the server can be reused by another test.
+   *
+   * @return false if custom filters have been added: they cannot be removed from a running server
+   */
+  public boolean resetFilters() {
+    AuthenticationFilter authentication = requestFilter("authentication");
+    if (authentication != null) {
+      authentication.removeAuthentication();
+    }
+    FileDownloadFilter download = responseFilter("download");
+    if (download != null) {
+      download.deactivate();
+    }
+    return requestFilters.keySet().stream().allMatch(BUILT_IN_REQUEST_FILTERS::contains) &&
+      responseFilters.keySet().stream().allMatch(BUILT_IN_RESPONSE_FILTERS::contains);
+  }
+
   /**
    * Stop the server
    */
@@ -8,6 +8,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -16,13 +17,18 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
+
 class ChromeDriverFactory extends AbstractDriverFactory {
   private static final Logger log = Logger.getLogger(ChromeDriverFactory.class.getName());
 
   @Override
   WebDriver create(Config config, Proxy proxy) {
-    ChromeOptions options = createChromeOptions(config, proxy);
-    return new ChromeDriver(options);
+    File downloadsFolder = DownloadsFolders.instance.newFolder(config);
+    ChromeOptions options = createChromeOptions(config, proxy, downloadsFolder);
+    WebDriver webDriver = new ChromeDriver(options);
+    DownloadsFolders.instance.register(webDriver, downloadsFolder);
+    return webDriver;
   }
 
   @Override
@@ -30,7 +36,7 @@ class ChromeDriverFactory extends AbstractDriverFactory {
     return browser.isChrome();
   }
 
-  ChromeOptions createChromeOptions(Config config, Proxy proxy) {
+  ChromeOptions createChromeOptions(Config config, Proxy proxy, File downloadsFolder) {
     ChromeOptions options = new ChromeOptions();
     options.setHeadless(config.headless());
     if (!config.browserBinary().isEmpty()) {
@@ -38,7 +44,7 @@ class ChromeDriverFactory extends AbstractDriverFactory {
       options.setBinary(config.browserBinary());
     }
     options.merge(createCommonCapabilities(config, proxy));
-    options = transferChromeOptionsFromSystemProperties(options);
+    options = transferChromeOptionsFromSystemProperties(config, options, downloadsFolder);
     log.config("Chrome options:" + options.toString());
     return options;
   }
@@ -51,7 +57,8 @@ class ChromeDriverFactory extends AbstractDriverFactory {
    * @param currentChromeOptions
    * @return options updated with args & prefs parameters
    */
-  private ChromeOptions transferChromeOptionsFromSystemProperties(ChromeOptions currentChromeOptions) {
+  private ChromeOptions transferChromeOptionsFromSystemProperties(Config config, ChromeOptions currentChromeOptions,
+                                                                  File downloadsFolder) {
     if (System.getProperty("chromeoptions.args") != null) {
       Stream<String> params = Arrays.stream(parseCSVhandlingQuotes(System.getProperty("chromeoptions.args")));
       List<String> args = params
@@ -59,13 +66,32 @@ class ChromeDriverFactory extends AbstractDriverFactory {
         .collect(Collectors.toList());
       currentChromeOptions.addArguments(args);
     }
+    Map<String, Object> prefs = downloadPreferences(config, downloadsFolder);
     if (System.getProperty("chromeoptions.prefs") != null) {
-      Map<String, Object> prefs = parsePreferencesFromString(System.getProperty("chromeoptions.prefs"));
+      prefs.putAll(parsePreferencesFromString(System.getProperty("chromeoptions.prefs")));
+    }
+    if (!prefs.isEmpty()) {
       currentChromeOptions.setExperimentalOption("prefs", prefs);
     }
     return currentChromeOptions;
   }
 
+  /**
+   * @return preferences to save downloaded files to {@code downloadsFolder} without asking
+   * (if file download mode is FOLDER)
+   */
+  private Map<String, Object> downloadPreferences(Config config, File downloadsFolder) {
+    Map<String, Object> prefs = new HashMap<>();
+    if (config.fileDownload() == FOLDER) {
+      prefs.put("download.default_directory", downloadsFolder.getAbsolutePath());
+      prefs.put("download.prompt_for_download", false);
+      prefs.put("download.directory_upgrade", true);
+      prefs.put("safebrowsing.enabled", true);
+      prefs.put("plugins.always_open_pdf_externally", true);
+    }
+    return prefs;
+  }
+
   private Map<String, Object> parsePreferencesFromString(String preferencesString) {
     Map<String, Object> prefs = new HashMap<>();
     String[] allPrefs = parseCSVhandlingQuotes(preferencesString);
@@ -0,0 +1,60 @@
+package com.codeborne.selenide.webdriver;
+
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.impl.Randomizer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import java.io.File;
+
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
+
+/**
+ * Folders where browsers save downloaded files (used if {@code config.fileDownload} is FOLDER).
+ *
+ * Every browser started by Selenide gets its own subfolder of {@code config.downloadsFolder},
+ * so that tests running in parallel don't take each other's files.
+ */
+public class DownloadsFolders {
+  public static DownloadsFolders instance = new DownloadsFolders();
+
+  private final Randomizer random;
+  private final Cache<WebDriver, File> folders = CacheBuilder.newBuilder().weakKeys().build();
+
+  DownloadsFolders() {
+    this(new Randomizer());
+  }
+
+  DownloadsFolders(Randomizer random) {
+    this.random = random;
+  }
+
+  /**
+   * @return unique subfolder of {@code config.downloadsFolder} for a new browser,
+   * or null if browser doesn't save files to disk (file download mode is not FOLDER)
+   */
+  File newFolder(Config config) {
+    return config.fileDownload() == FOLDER ? new File(config.downloadsFolder(), random.text()).getAbsoluteFile() : null;
+  }
+
+  void register(WebDriver webDriver, File folder) {
+    if (folder != null) {
+      folders.put(webDriver, folder);
+    }
+  }
+
+  /**
+   * @return folder where the given browser saves files,
+   * or {@code config.downloadsFolder} if the browser was not started by Selenide
+   */
+  public File folder(Config config, WebDriver webDriver) {
+    WebDriver browser = webDriver;
+    while (browser instanceof WrapsDriver) {
+      browser = ((WrapsDriver) browser).getWrappedDriver();
+    }
+    File folder = browser == null ? null : folders.getIfPresent(browser);
+    return folder != null ? folder : new File(config.downloadsFolder()).getAbsoluteFile();
+  }
+}
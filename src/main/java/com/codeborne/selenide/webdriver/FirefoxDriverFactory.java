@@ -9,10 +9,18 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.firefox.FirefoxProfile;
 
+import java.io.File;
 import java.util.logging.Logger;
 
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
+
 class FirefoxDriverFactory extends AbstractDriverFactory {
   private static final Logger log = Logger.getLogger(FirefoxDriverFactory.class.getName());
+  private static final String SAVE_TO_DISK_CONTENT_TYPES = "application/octet-stream,application/pdf,application/zip," +
+      "application/x-zip-compressed,application/json,application/xml,application/msword,application/vnd.ms-excel," +
+      "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet," +
+      "application/vnd.openxmlformats-officedocument.wordprocessingml.document," +
+      "text/csv,text/plain,text/xml,image/png,image/jpeg,image/gif";
 
   @Override
   boolean supports(Config config, Browser browser) {
@@ -27,11 +35,14 @@ class FirefoxDriverFactory extends AbstractDriverFactory {
   }
 
   private WebDriver createFirefoxDriver(Config config, Proxy proxy) {
-    FirefoxOptions options = createFirefoxOptions(config, proxy);
-    return new FirefoxDriver(options);
+    File downloadsFolder = DownloadsFolders.instance.newFolder(config);
+    FirefoxOptions options = createFirefoxOptions(config, proxy, downloadsFolder);
+    WebDriver webDriver = new FirefoxDriver(options);
+    DownloadsFolders.instance.register(webDriver, downloadsFolder);
+    return webDriver;
   }
 
-  FirefoxOptions createFirefoxOptions(Config config, Proxy proxy) {
+  FirefoxOptions createFirefoxOptions(Config config, Proxy proxy, File downloadsFolder) {
     FirefoxOptions firefoxOptions = new FirefoxOptions();
     firefoxOptions.setHeadless(config.headless());
     if (!config.browserBinary().isEmpty()) {
@@ -45,6 +56,9 @@ class FirefoxDriverFactory extends AbstractDriverFactory {
     firefoxOptions.addPreference("network.http.phishy-userpass-length", 255);
     firefoxOptions.addPreference("security.csp.enable", false);
     firefoxOptions.addPreference("network.proxy.no_proxies_on", "");
+    if (config.fileDownload() == FOLDER) {
+      addDownloadPreferences(downloadsFolder, firefoxOptions);
+    }
 
     firefoxOptions.merge(createCommonCapabilities(config, proxy));
     firefoxOptions = transferFirefoxProfileFromSystemProperties(firefoxOptions);
@@ -52,6 +66,18 @@ class FirefoxDriverFactory extends AbstractDriverFactory {
     return firefoxOptions;
   }
 
+  /**
+   * Save downloaded files to {@code downloadsFolder} without asking
+   */
+  private void addDownloadPreferences(File downloadsFolder, FirefoxOptions firefoxOptions) {
+    firefoxOptions.addPreference("browser.download.dir", downloadsFolder.getAbsolutePath());
+    firefoxOptions.addPreference("browser.download.folderList", 2);
+    firefoxOptions.addPreference("browser.download.useDownloadDir", true);
+    firefoxOptions.addPreference("browser.download.manager.showWhenStarting", false);
+    firefoxOptions.addPreference("browser.helperApps.neverAsk.saveToDisk", SAVE_TO_DISK_CONTENT_TYPES);
+    firefoxOptions.addPreference("pdfjs.disabled", true);
+  }
+
   private FirefoxOptions transferFirefoxProfileFromSystemProperties(FirefoxOptions currentFirefoxOptions) {
     String prefix = "firefoxprofile.";
     FirefoxProfile profile = Optional.ofNullable(currentFirefoxOptions.getProfile())
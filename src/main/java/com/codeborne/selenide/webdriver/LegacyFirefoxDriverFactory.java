@@ -7,6 +7,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 
+import java.io.File;
 import java.util.logging.Logger;
 
 class LegacyFirefoxDriverFactory extends FirefoxDriverFactory {
@@ -25,8 +26,11 @@ class LegacyFirefoxDriverFactory extends FirefoxDriverFactory {
   }
 
   private WebDriver createLegacyFirefoxDriver(Config config, Proxy proxy) {
-    FirefoxOptions firefoxOptions = createFirefoxOptions(config, proxy);
+    File downloadsFolder = DownloadsFolders.instance.newFolder(config);
+    FirefoxOptions firefoxOptions = createFirefoxOptions(config, proxy, downloadsFolder);
     firefoxOptions.setLegacy(true);
-    return new FirefoxDriver(firefoxOptions);
+    WebDriver webDriver = new FirefoxDriver(firefoxOptions);
+    DownloadsFolders.instance.register(webDriver, downloadsFolder);
+    return webDriver;
   }
 }
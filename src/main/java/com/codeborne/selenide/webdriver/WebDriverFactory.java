@@ -44,10 +44,7 @@ public class WebDriverFactory {
     log.config("startMaximized=" + config.startMaximized());
 
     Browser browser = new Browser(config.browser(), config.headless());
-
-    if (config.driverManagerEnabled() && config.remote() == null) {
-      webDriverBinaryManager.setupBinaryPath(browser);
-    }
+    setupWebDriverBinary(config);
 
     WebDriver webdriver = factories.stream()
         .filter(factory -> factory.supports(config, browser))
@@ -64,6 +61,16 @@ public class WebDriverFactory {
     return webdriver;
   }
 
+  /**
+   * Downloads webdriver binary (like chromedriver) if needed. It's done only once per browser type.
+   * Can be called in advance (e.g. while proxy server is starting) to speed up {@link #createWebDriver(Config, Proxy)}.
+   */
+  public void setupWebDriverBinary(Config config) {
+    if (config.driverManagerEnabled() && config.remote() == null) {
+      webDriverBinaryManager.setupBinaryPath(new Browser(config.browser(), config.headless()));
+    }
+  }
+
   protected void logSeleniumInfo(Config config) {
     if (config.remote() == null) {
       BuildInfo seleniumInfo = new BuildInfo();
@@ -16,6 +16,8 @@ import java.util.stream.IntStream;
 import static com.codeborne.selenide.CollectionCondition.size;
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -34,6 +36,7 @@ class ElementsCollectionTest implements WithAssertions {
   @BeforeEach
   final void mockWebDriver() {
     when(source.driver()).thenReturn(driver);
+    when(source.size()).thenAnswer(invocation -> source.getElements().size());
   }
 
   @Test
@@ -276,6 +279,7 @@ class ElementsCollectionTest implements WithAssertions {
   void doesNotWait_ifConditionAlreadyMatches() {
     WebElementsCollection source = mock(WebElementsCollection.class);
     when(source.driver()).thenReturn(driver);
+    when(source.size()).thenAnswer(invocation -> source.getElements().size());
     ElementsCollection collection = spy(new ElementsCollection(source));
     when(source.getElements()).thenReturn(asList(element1, element2));
 
@@ -283,10 +287,22 @@ class ElementsCollectionTest implements WithAssertions {
     verify(collection, never()).sleep(anyLong());
   }
 
+  @Test
+  void sizeConditionsOnlyCountElements() {
+    ElementsCollection collection = new ElementsCollection(source);
+    doReturn(1000).when(source).size();
+
+    collection.shouldHave(size(1000));
+    assertThat(collection.size()).isEqualTo(1000);
+
+    verify(source, never()).getElements();
+  }
+
   @Test
   void doesNotWait_ifJavascriptExceptionHappened() {
     WebElementsCollection source = mock(WebElementsCollection.class);
     when(source.driver()).thenReturn(driver);
+    when(source.size()).thenAnswer(invocation -> source.getElements().size());
     ElementsCollection collection = spy(new ElementsCollection(source));
     when(source.getElements()).thenThrow(new JavascriptException("ReferenceError: Sizzle is not defined"));
 
@@ -308,6 +324,23 @@ class ElementsCollectionTest implements WithAssertions {
     verify(collection, times(2)).sleep(anyLong());
   }
 
+  @Test
+  void sleepsAccordingToPollingStrategy() {
+    SelenideConfig config = new SelenideConfig().pollingInterval(200).pollingStrategy(PollingStrategy.exponentialBackoff(10, 100));
+    when(source.driver()).thenReturn(new DriverStub(config, new Browser("chrome", false), null, null));
+    ElementsCollection collection = spy(new ElementsCollection(source));
+    doNothing().when(collection).sleep(anyLong());
+    when(source.getElements()).thenReturn(
+      Collections.singletonList(element1),
+      asList(element1, element2),
+      asList(element1, element2, element2)
+    );
+
+    collection.shouldHave(size(3));
+    verify(collection).sleep(10);
+    verify(collection).sleep(20);
+  }
+
   @Test
   void toStringFetchedCollectionFromWebdriverIfNotFetchedYet() {
     ElementsCollection collection = new ElementsCollection(source);
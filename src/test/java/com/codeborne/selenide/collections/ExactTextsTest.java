@@ -2,6 +2,8 @@ package com.codeborne.selenide.collections;
 
 import java.util.List;
 
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.TextsMismatch;
 import com.codeborne.selenide.impl.WebElementsCollection;
@@ -12,7 +14,11 @@ import org.openqa.selenium.WebElement;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ExactTextsTest implements WithAssertions {
@@ -55,6 +61,19 @@ class ExactTextsTest implements WithAssertions {
     testApplyMethodOnDifferentConditions(false);
   }
 
+  @Test
+  void canReadAllTextsWithSingleJavascriptCall() {
+    Driver driver = mock(Driver.class);
+    when(driver.config()).thenReturn(new SelenideConfig().textsViaJs(true));
+    when(driver.supportsJavascript()).thenReturn(true);
+    List<WebElement> elements = asList(mock(WebElement.class), mock(WebElement.class));
+    when(driver.executeJavaScript(anyString(), any())).thenReturn(asList("One", "Two"));
+
+    assertThat(new ExactTexts("One", "Two").apply(driver, elements)).isTrue();
+    assertThat(new ExactTexts("One", "Three").apply(driver, elements)).isFalse();
+    verify(elements.get(0), never()).getText();
+  }
+
   @Test
   void testFailWithNullElementsList() {
     failOnEmptyOrNullElementsList(null);
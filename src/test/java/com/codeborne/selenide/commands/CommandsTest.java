@@ -0,0 +1,98 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.mockito.Mockito.mock;
+
+class CommandsTest implements WithAssertions {
+  private final SelenideElement proxy = mock(SelenideElement.class);
+  private final WebElementSource locator = mock(WebElementSource.class);
+  private final Commands global = new Commands();
+  private final Commands commands = new Commands(global);
+
+  @Test
+  void executesCommandByMethodName() throws IOException {
+    global.add("name", (proxy, locator, args) -> "global name");
+
+    assertThat(global.<String>execute(proxy, locator, "name", null)).isEqualTo("global name");
+  }
+
+  @Test
+  void usesParentCommandsIfNotOverridden() throws IOException {
+    global.add("name", (proxy, locator, args) -> "global name");
+
+    assertThat(commands.<String>execute(proxy, locator, "name", null)).isEqualTo("global name");
+  }
+
+  @Test
+  void canOverrideCommandWithoutChangingParent() throws IOException {
+    global.add("name", (proxy, locator, args) -> "global name");
+    commands.add("name", (proxy, locator, args) -> "custom name");
+
+    assertThat(commands.<String>execute(proxy, locator, "name", null)).isEqualTo("custom name");
+    assertThat(global.<String>execute(proxy, locator, "name", null)).isEqualTo("global name");
+  }
+
+  @Test
+  void resetDefaultsRemovesOverriddenCommands() throws IOException {
+    global.add("name", (proxy, locator, args) -> "global name");
+    commands.add("name", (proxy, locator, args) -> "custom name");
+
+    commands.resetDefaults();
+
+    assertThat(commands.<String>execute(proxy, locator, "name", null)).isEqualTo("global name");
+  }
+
+  @Test
+  void resetDefaultsRestoresBuiltInCommands() {
+    global.add("customName", (proxy, locator, args) -> "global name");
+
+    global.resetDefaults();
+
+    assertThatThrownBy(() -> global.execute(proxy, locator, "customName", null))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatCode(() -> global.execute(proxy, locator, "getSearchCriteria", null)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void throwsExceptionForUnknownCommand() {
+    assertThatThrownBy(() -> commands.execute(proxy, locator, "unknown", null))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unknown Selenide method: unknown");
+  }
+
+  @Test
+  void executesCommandBoundToSlot() throws IOException {
+    Commands.Slot slot = Commands.slot("slotName");
+    global.add("slotName", (proxy, locator, args) -> "global name");
+
+    assertThat(Commands.slot("slotName")).isSameAs(slot);
+    assertThat(commands.<String>execute(proxy, locator, slot, null)).isEqualTo("global name");
+  }
+
+  @Test
+  void findsCommandForSlotAgainAfterAnyRegistryIsChanged() throws IOException {
+    Commands.Slot slot = Commands.slot("slotName");
+    global.add("slotName", (proxy, locator, args) -> "global name");
+    assertThat(commands.<String>execute(proxy, locator, slot, null)).isEqualTo("global name");
+
+    commands.add("slotName", (proxy, locator, args) -> "custom name");
+    assertThat(commands.<String>execute(proxy, locator, slot, null)).isEqualTo("custom name");
+
+    commands.resetDefaults();
+    global.add("slotName", (proxy, locator, args) -> "new global name");
+    assertThat(commands.<String>execute(proxy, locator, slot, null)).isEqualTo("new global name");
+  }
+
+  @Test
+  void throwsExceptionForUnknownSlot() {
+    assertThatThrownBy(() -> commands.execute(proxy, locator, Commands.slot("unknownSlot"), null))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unknown Selenide method: unknownSlot");
+  }
+}
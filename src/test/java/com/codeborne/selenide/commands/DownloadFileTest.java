@@ -5,6 +5,7 @@ import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
 import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.impl.DownloadFileToFolder;
 import com.codeborne.selenide.impl.DownloadFileWithHttpRequest;
 import com.codeborne.selenide.impl.DownloadFileWithProxyServer;
 import com.codeborne.selenide.impl.WebElementSource;
@@ -18,6 +19,7 @@ import org.openqa.selenium.WebElement;
 import java.io.File;
 import java.io.IOException;
 
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
 import static com.codeborne.selenide.FileDownloadMode.HTTPGET;
 import static com.codeborne.selenide.FileDownloadMode.PROXY;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,7 +34,8 @@ class DownloadFileTest implements WithAssertions {
   private Driver driver = mock(Driver.class);
   private DownloadFileWithHttpRequest httpget = mock(DownloadFileWithHttpRequest.class);
   private DownloadFileWithProxyServer proxy = mock(DownloadFileWithProxyServer.class);
-  private DownloadFile command = new DownloadFile(httpget, proxy);
+  private DownloadFileToFolder folder = mock(DownloadFileToFolder.class);
+  private DownloadFile command = new DownloadFile(httpget, proxy, folder);
   private WebElementSource linkWithHref = mock(WebElementSource.class);
   private WebElement link = mock(WebElement.class);
   private File file = new File("some-file.yxy");
@@ -72,6 +75,19 @@ class DownloadFileTest implements WithAssertions {
     verifyNoMoreInteractions(httpget);
   }
 
+  @Test
+  void canDownloadFile_toFolder() throws IOException {
+    when(config.proxyEnabled()).thenReturn(false);
+    when(config.fileDownload()).thenReturn(FOLDER);
+    when(folder.download(any(), any(), anyLong())).thenReturn(file);
+
+    File f = command.execute(null, linkWithHref, new Object[]{7000L});
+
+    assertThat(f).isSameAs(file);
+    verify(folder).download(linkWithHref, link, 7000L);
+    verifyNoMoreInteractions(httpget, proxy);
+  }
+
   @Test
   void proxyServerShouldBeEnabled() {
     when(config.proxyEnabled()).thenReturn(false);
@@ -33,10 +33,10 @@ class ExistsCommandTest implements WithAssertions {
 
   @Test
   void testExistExecuteMethod() {
-    when(locator.getWebElement()).thenReturn(null);
+    when(locator.getWebElementOrNull()).thenReturn(null);
     assertThat(existsCommand.execute(proxy, locator, null))
       .isFalse();
-    when(locator.getWebElement()).thenReturn(element);
+    when(locator.getWebElementOrNull()).thenReturn(element);
     assertThat(existsCommand.execute(proxy, locator, null))
       .isTrue();
   }
@@ -47,7 +47,7 @@ class ExistsCommandTest implements WithAssertions {
   }
 
   private <T extends Throwable> void checkExecuteMethodWithException(T exception) {
-    doThrow(exception).when(locator).getWebElement();
+    doThrow(exception).when(locator).getWebElementOrNull();
     assertThat(existsCommand.execute(proxy, locator, null))
       .isFalse();
   }
@@ -30,14 +30,14 @@ class MatchesCommandTest implements WithAssertions {
 
   @Test
   void testExecuteMethodWhenNoElementFound() {
-    when(locator.getWebElement()).thenReturn(null);
+    when(locator.getWebElementOrNull()).thenReturn(null);
     assertThat(matchesCommand.execute(proxy, locator, new Object[]{Condition.disabled}))
       .isFalse();
   }
 
   @Test
   void testExecuteMethodWhenElementDoesntMeetCondition() {
-    when(locator.getWebElement()).thenReturn(mockedElement);
+    when(locator.getWebElementOrNull()).thenReturn(mockedElement);
     when(mockedElement.isEnabled()).thenReturn(true);
     assertThat(matchesCommand.execute(proxy, locator, new Object[]{Condition.disabled}))
       .isFalse();
@@ -45,7 +45,7 @@ class MatchesCommandTest implements WithAssertions {
 
   @Test
   void testExecuteMethodWhenElementMeetsCondition() {
-    when(locator.getWebElement()).thenReturn(mockedElement);
+    when(locator.getWebElementOrNull()).thenReturn(mockedElement);
     when(mockedElement.isEnabled()).thenReturn(true);
     assertThat(matchesCommand.execute(proxy, locator, new Object[]{Condition.enabled}))
       .isTrue();
@@ -57,7 +57,7 @@ class MatchesCommandTest implements WithAssertions {
   }
 
   private <T extends Throwable> void catchExecuteMethodWithException(T exception) {
-    doThrow(exception).when(locator).getWebElement();
+    doThrow(exception).when(locator).getWebElementOrNull();
     assertThat(matchesCommand.execute(proxy, locator, new Object[]{Condition.enabled}))
       .isFalse();
   }
@@ -0,0 +1,47 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.proxy.SelenideProxyServer;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class CloseDriverCommandTest implements WithAssertions {
+  private final WebDriver webDriver = mock(WebDriver.class);
+  private final SelenideProxyServer proxy = mock(SelenideProxyServer.class);
+
+  @Test
+  void closesBrowserAndProxy() {
+    new CloseDriverCommand(webDriver, proxy).run();
+
+    verify(webDriver).quit();
+    verify(proxy).shutdown();
+  }
+
+  @Test
+  void canCloseBrowserInBackground() throws InterruptedException {
+    CountDownLatch browserIsClosing = new CountDownLatch(1);
+    CountDownLatch allowToClose = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      browserIsClosing.countDown();
+      allowToClose.await(5, SECONDS);
+      return null;
+    }).when(webDriver).quit();
+
+    new CloseDriverCommand(webDriver, proxy, true).run();
+
+    assertThat(browserIsClosing.await(5, SECONDS)).isTrue();
+    verify(proxy, never()).shutdown();
+
+    allowToClose.countDown();
+    CloseDriverCommand.awaitBackgroundClose(5000);
+    verify(proxy).shutdown();
+  }
+}
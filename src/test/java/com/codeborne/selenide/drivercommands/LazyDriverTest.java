@@ -18,6 +18,8 @@ import java.util.logging.StreamHandler;
 import static java.lang.Thread.currentThread;
 import static java.util.Collections.emptyList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -148,4 +150,30 @@ class LazyDriverTest implements WithAssertions {
     customLogHandler.flush();
     return logCapturingStream.toString();
   }
+
+  @Test
+  void takesBrowserFromPool_ifPoolIsEnabled() {
+    WebDriverPool pool = mock(WebDriverPool.class);
+    CreateDriverCommand.Result pooledDriver = new CreateDriverCommand.Result(webdriver, null);
+    when(config.driverPoolSize()).thenReturn(2);
+    when(pool.acquire(any(), any(), any())).thenReturn(pooledDriver);
+    driver = new LazyDriver(config, null, emptyList(), factory, browserHealthChecker, pool);
+
+    assertThat(driver.getAndCheckWebDriver()).isSameAs(webdriver);
+    driver.close();
+
+    verify(pool).release(eq(config), argThat(released -> released.webDriver == webdriver));
+    verify(webdriver, never()).quit();
+  }
+
+  @Test
+  void doesNotUsePool_forBrowserWithCustomProxy() {
+    WebDriverPool pool = mock(WebDriverPool.class);
+    when(config.driverPoolSize()).thenReturn(2);
+    driver = new LazyDriver(config, mockProxy("selenide:0"), emptyList(), factory, browserHealthChecker, pool);
+
+    givenOpenedBrowser();
+
+    verify(pool, never()).acquire(any(), any(), any());
+  }
 }
@@ -0,0 +1,216 @@
+package com.codeborne.selenide.drivercommands;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebDriverPoolTest implements WithAssertions {
+  private final BrowserHealthChecker browserHealthChecker = mock(BrowserHealthChecker.class);
+  private final WebDriverPool pool = new WebDriverPool(browserHealthChecker);
+  private final SelenideConfig config = new SelenideConfig().browser("chrome").driverPoolSize(2);
+  private final List<WebDriver> startedDrivers = new CopyOnWriteArrayList<>();
+  private final Supplier<CreateDriverCommand.Result> factory = this::startDriver;
+  private final List<String> binarySetups = new CopyOnWriteArrayList<>();
+  private final Runnable binarySetup = () -> binarySetups.add("binary setup before " + startedDrivers.size() + " browsers");
+
+  @BeforeEach
+  void setUp() {
+    when(browserHealthChecker.isBrowserStillOpen(any())).thenReturn(true);
+  }
+
+  private synchronized CreateDriverCommand.Result startDriver() {
+    WebDriver webDriver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+    when(webDriver.getWindowHandle()).thenReturn("main");
+    when(webDriver.getWindowHandles()).thenReturn(new HashSet<>(asList("main", "popup")));
+    startedDrivers.add(webDriver);
+    return new CreateDriverCommand.Result(webDriver, null);
+  }
+
+  @Test
+  void startsBrowsersInBackgroundWhenFirstBrowserIsRequested() {
+    CreateDriverCommand.Result first = pool.acquire(config, binarySetup, factory);
+    CreateDriverCommand.Result second = pool.acquire(config, binarySetup, factory);
+
+    assertThat(startedDrivers).hasSize(2);
+    assertThat(startedDrivers).containsOnly(first.webDriver, second.webDriver);
+    verify(browserHealthChecker).isBrowserStillOpen(first.webDriver);
+  }
+
+  @Test
+  void reusesReleasedBrowser() {
+    CreateDriverCommand.Result first = pool.acquire(config, binarySetup, factory);
+    CreateDriverCommand.Result second = pool.acquire(config, binarySetup, factory);
+    pool.release(config, first);
+
+    CreateDriverCommand.Result third = pool.acquire(config, binarySetup, factory);
+
+    assertThat(third.webDriver).isSameAs(first.webDriver);
+    assertThat(startedDrivers).hasSize(2);
+    assertThat(second.webDriver).isNotSameAs(first.webDriver);
+    verify(first.webDriver.manage()).deleteAllCookies();
+    verify(first.webDriver.navigate()).to("about:blank");
+    verify(first.webDriver.switchTo()).window("popup");
+    verify(first.webDriver, never()).quit();
+  }
+
+  @Test
+  void startsNewBrowserIfPoolIsEmpty() {
+    pool.acquire(config, binarySetup, factory);
+    pool.acquire(config, binarySetup, factory);
+
+    CreateDriverCommand.Result third = pool.acquire(config, binarySetup, factory);
+
+    assertThat(startedDrivers).hasSize(3);
+    assertThat(startedDrivers.get(2)).isSameAs(third.webDriver);
+  }
+
+  @Test
+  void closesBrowserIfPoolIsFull() {
+    CreateDriverCommand.Result extra = startDriver();
+    pool.release(config, pool.acquire(config, binarySetup, factory));
+
+    pool.release(config, extra);
+
+    verify(extra.webDriver, timeout(1000)).quit();
+  }
+
+  @Test
+  void closesBrowserIfItCannotBeCleanedUp() {
+    CreateDriverCommand.Result driver = pool.acquire(config, binarySetup, factory);
+    WebDriver.Options options = driver.webDriver.manage();
+    doThrow(new NoSuchSessionException("no session")).when(options).deleteAllCookies();
+
+    pool.release(config, driver);
+
+    verify(driver.webDriver, timeout(1000)).quit();
+  }
+
+  @Test
+  void doesNotReuseClosedBrowser() {
+    when(browserHealthChecker.isBrowserStillOpen(any())).thenReturn(false);
+
+    CreateDriverCommand.Result driver = pool.acquire(config, binarySetup, factory);
+
+    assertThat(startedDrivers).hasSize(3);
+    assertThat(driver.webDriver).isSameAs(startedDrivers.get(2));
+    verify(startedDrivers.get(0), timeout(1000)).quit();
+    verify(startedDrivers.get(1), timeout(1000)).quit();
+  }
+
+  @Test
+  void closesAllPooledBrowsers() {
+    CreateDriverCommand.Result driver = pool.acquire(config, binarySetup, factory);
+
+    pool.closeAll();
+
+    WebDriver pooledDriver = startedDrivers.get(0) == driver.webDriver ? startedDrivers.get(1) : startedDrivers.get(0);
+    verify(pooledDriver, timeout(1000)).quit();
+    verify(driver.webDriver, never()).quit();
+  }
+
+  @Test
+  void closesReleasedBrowser_afterShutdown() {
+    CreateDriverCommand.Result driver = pool.acquire(config, binarySetup, factory);
+    pool.closeAll();
+
+    pool.release(config, driver);
+
+    verify(driver.webDriver, timeout(1000)).quit();
+    verify(driver.webDriver, never()).manage();
+    verify(driver.webDriver, never()).navigate();
+  }
+
+  @Test
+  void doesNotBlockOtherBrowserSettings_whileSettingUpWebDriverBinary() throws InterruptedException {
+    CountDownLatch setupStarted = new CountDownLatch(1);
+    CountDownLatch binaryDownloaded = new CountDownLatch(1);
+    Runnable slowBinarySetup = () -> {
+      setupStarted.countDown();
+      await(binaryDownloaded);
+    };
+    Thread slowSetup = new Thread(() -> pool.acquire(config, slowBinarySetup, factory));
+    slowSetup.start();
+    setupStarted.await();
+
+    SelenideConfig otherConfig = new SelenideConfig().browser("firefox").driverPoolSize(1);
+    CreateDriverCommand.Result driver = pool.acquire(otherConfig, binarySetup, factory);
+
+    assertThat(startedDrivers).containsExactly(driver.webDriver);
+    binaryDownloaded.countDown();
+    slowSetup.join(1000);
+    waitUntilStarted(3);
+  }
+
+  /**
+   * Pool starts browsers in background, so some of them may be still starting
+   */
+  private void waitUntilStarted(int count) throws InterruptedException {
+    for (long start = System.currentTimeMillis(); startedDrivers.size() < count && System.currentTimeMillis() - start < 1000; ) {
+      Thread.sleep(10);
+    }
+    assertThat(startedDrivers).hasSize(count);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    }
+    catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void setsUpWebDriverBinaryOnceBeforeStartingBrowsers() {
+    pool.acquire(config, binarySetup, factory);
+    pool.acquire(config, binarySetup, factory);
+    pool.acquire(config, binarySetup, factory);
+
+    assertThat(binarySetups).containsExactly("binary setup before 0 browsers");
+  }
+
+  @Test
+  void poolsBrowsersSeparately_forDifferentBrowserSettings() throws InterruptedException {
+    CreateDriverCommand.Result first = pool.acquire(config, binarySetup, factory);
+    config.browserSize("800x600");
+
+    pool.release(config, first);
+    CreateDriverCommand.Result second = pool.acquire(config, binarySetup, factory);
+
+    verify(first.webDriver, timeout(1000)).quit();
+    waitUntilStarted(4);
+    assertThat(second.webDriver).isNotSameAs(first.webDriver);
+  }
+
+  @Test
+  void keyContainsAllSettingsUsedToStartBrowser() {
+    SelenideConfig other = new SelenideConfig().browser("chrome").driverPoolSize(2);
+    assertThat(WebDriverPool.key(other)).isEqualTo(WebDriverPool.key(config));
+
+    assertThat(WebDriverPool.key(other.startMaximized(true))).isNotEqualTo(WebDriverPool.key(config));
+    assertThat(WebDriverPool.key(new SelenideConfig().browser("chrome").downloadsFolder("build/other")))
+      .isNotEqualTo(WebDriverPool.key(config));
+    assertThat(WebDriverPool.key(new SelenideConfig().browser("chrome").fileDownload(FOLDER)))
+      .isNotEqualTo(WebDriverPool.key(config));
+  }
+}
@@ -1,13 +1,19 @@
 package com.codeborne.selenide.ex;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
 
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 class ElementShouldTest implements WithAssertions {
   @Test
@@ -26,4 +32,41 @@ class ElementShouldTest implements WithAssertions {
     assertThat(elementShould)
       .hasToString(expectedString);
   }
+
+  @Test
+  void describesElementOnlyWhenMessageIsRequested() {
+    Driver driver = new DriverStub();
+    WebElement webElement = mock(WebElement.class);
+    when(webElement.getTagName()).thenReturn("h1");
+
+    ElementShould elementShould = new ElementShould(driver, "h1", "be ", Condition.visible, webElement, null);
+    verifyNoMoreInteractions(webElement);
+
+    assertThat(elementShould.getMessage()).startsWith("Element should be visible {h1}\nElement: '<h1");
+    assertThat(elementShould.getMessage()).isSameAs(elementShould.getMessage());
+    verify(webElement, atLeastOnce()).getTagName();
+  }
+
+  @Test
+  void describesElementImmediatelyIfEagerErrorMessagesAreEnabled() {
+    Driver driver = new DriverStub(new SelenideConfig().eagerErrorMessages(true), new Browser("zopera", false), null, null);
+    WebElement webElement = mock(WebElement.class);
+    when(webElement.getTagName()).thenReturn("h1");
+
+    new ElementShould(driver, "h1", "be ", Condition.visible, webElement, null);
+
+    verify(webElement, atLeastOnce()).getTagName();
+  }
+
+  @Test
+  void describesElementWhenErrorIsReported() {
+    Driver driver = new DriverStub();
+    WebElement webElement = mock(WebElement.class);
+    when(webElement.getTagName()).thenReturn("h1");
+    ElementShould elementShould = new ElementShould(driver, "h1", "be ", Condition.visible, webElement, null);
+
+    UIAssertionError.wrap(driver, elementShould, 4000);
+
+    verify(webElement, atLeastOnce()).getTagName();
+  }
 }
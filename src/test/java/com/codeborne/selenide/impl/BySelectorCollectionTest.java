@@ -1,18 +1,32 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class BySelectorCollectionTest implements WithAssertions {
   private Driver driver = mock(Driver.class);
@@ -44,6 +58,41 @@ class BySelectorCollectionTest implements WithAssertions {
       .isEqualTo("By.name: selenide");
   }
 
+  @Test
+  void countsElementsInBrowser() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+    when(((JavascriptExecutor) webDriver).executeScript(contains("querySelectorAll"), eq("#grid tr"), isNull()))
+      .thenReturn(1000L);
+    when(((JavascriptExecutor) webDriver).executeScript(contains("document.evaluate"), eq("//tr"), isNull()))
+      .thenReturn(999L);
+
+    assertThat(new BySelectorCollection(driver, By.cssSelector("#grid tr")).size()).isEqualTo(1000);
+    assertThat(new BySelectorCollection(driver, By.xpath("//tr")).size()).isEqualTo(999);
+    verify(webDriver, never()).findElements(any());
+  }
+
+  @Test
+  void countsElementsByFetchingThem_ifSelectorCannotBeUsedInBrowser() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+    when(webDriver.findElements(By.name("row"))).thenReturn(singletonList(mockedWebElement));
+
+    assertThat(new BySelectorCollection(driver, By.name("row")).size()).isEqualTo(1);
+    verify((JavascriptExecutor) webDriver, never()).executeScript(anyString(), any());
+  }
+
+  @Test
+  void countsElementsByFetchingThem_ifScriptFailed() {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any(), any()))
+      .thenThrow(new JavascriptException("javascript error: document unloaded while waiting for result"));
+    when(webDriver.findElements(By.cssSelector("tr"))).thenReturn(singletonList(mockedWebElement));
+
+    assertThat(new BySelectorCollection(driver, By.cssSelector("tr")).size()).isEqualTo(1);
+  }
+
   private class NotWebElement implements SearchContext {
     @Override
     public List<WebElement> findElements(By by) {
@@ -14,6 +14,8 @@ import java.util.List;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CollectionElementTest implements WithAssertions {
@@ -32,6 +34,21 @@ class CollectionElementTest implements WithAssertions {
       .hasToString("<a>selenide</a>");
   }
 
+  @Test
+  void usesAlreadyFoundElementUntilItIsForgotten() {
+    WebElementsCollection collection = mock(WebElementsCollection.class);
+    WebElement found = mock(WebElement.class);
+    WebElement refreshed = mock(WebElement.class);
+    when(collection.getElements()).thenReturn(asList(mock(WebElement.class), refreshed));
+    CollectionElement collectionElement = new CollectionElement(collection, 1, found);
+
+    assertThat(collectionElement.getWebElement()).isSameAs(found);
+    verify(collection, never()).getElements();
+
+    collectionElement.forgetCachedElement();
+    assertThat(collectionElement.getWebElement()).isSameAs(refreshed);
+  }
+
   @Test
   void testGetWebElement() {
     WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class);
@@ -0,0 +1,163 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.conditions.Text;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.and;
+import static com.codeborne.selenide.Condition.attribute;
+import static com.codeborne.selenide.Condition.be;
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.exactText;
+import static com.codeborne.selenide.Condition.matchText;
+import static com.codeborne.selenide.Condition.or;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConditionCompilerTest implements WithAssertions {
+  private final ConditionCompiler compiler = new ConditionCompiler();
+  private final SelenideConfig config = new SelenideConfig().conditionsViaJs(true);
+  private final Driver driver = mock(Driver.class);
+  private final WebElement element1 = mock(WebElement.class);
+  private final WebElement element2 = mock(WebElement.class);
+
+  @BeforeEach
+  void setUp() {
+    when(driver.config()).thenReturn(config);
+    when(driver.supportsJavascript()).thenReturn(true);
+    when(element2.isDisplayed()).thenReturn(true);
+  }
+
+  @Test
+  void compilesConditionTreeToSingleExpression() {
+    Condition condition = and("active button", be(visible), or("label", text("OK"), exactText("Yes")),
+      Condition.not(cssClass("disabled")), attribute("data-id", "it's"));
+
+    assertThat(condition.toJavaScript()).isEqualTo("(visible(e)) && " +
+      "((contains(selectedText(e), 'OK')) || (norm(text(e)).toLowerCase() == 'Yes'.toLowerCase())) && " +
+      "(!(hasClass(e, 'disabled'))) && " +
+      "((attr(e, 'data-id') || '') == 'it\\'s')");
+  }
+
+  @Test
+  void conditionWithoutJavaScriptFormMakesWholeTreeJavaOnly() {
+    assertThat(matchText("a.*b").toJavaScript()).isNull();
+    assertThat(and("text", visible, matchText("a.*b")).toJavaScript()).isNull();
+    assertThat(Condition.not(matchText("a.*b")).toJavaScript()).isNull();
+    assertThat(attribute("style", "color: red").toJavaScript()).isNull();
+  }
+
+  @Test
+  void checksElementInBrowser() {
+    when(driver.executeJavaScript(contains("var e = arguments[0]; return !!(visible(e));"), eq(element1))).thenReturn(true);
+
+    assertThat(compiler.apply(driver, element1, be(visible))).isTrue();
+    verify(element1, never()).isDisplayed();
+  }
+
+  @Test
+  void trustsBrowser_ifElementDoesNotMatchConditionThere() {
+    when(driver.executeJavaScript(anyString(), any())).thenReturn(false);
+
+    assertThat(compiler.apply(driver, element2, visible)).isFalse();
+    verify(element2, never()).isDisplayed();
+  }
+
+  @Test
+  void checksElementInJavaOnce_whenExplainingWhyItDoesNotMatchConditionInBrowser() {
+    when(element1.getText()).thenReturn("Yes");
+    Condition condition = and("button", exactText("Yes"), text("OK"));
+
+    Condition explained = compiler.explain(driver, element1, condition);
+    verify(element1, never()).getText();
+
+    assertThat(explained).hasToString("text 'OK'");
+    assertThat(explained.actualValue(driver, element1)).isNull();
+    assertThat(explained).hasToString("text 'OK'");
+    verify(element1, times(2)).getText();
+  }
+
+  @Test
+  void checksSubclassesOfBuiltInConditionsInJava() {
+    Condition customText = new Text("OK") {
+      @Override
+      public boolean apply(Driver driver, WebElement element) {
+        return true;
+      }
+    };
+
+    assertThat(text("OK").toJavaScript()).isEqualTo("contains(selectedText(e), 'OK')");
+    assertThat(customText.toJavaScript()).isNull();
+    assertThat(compiler.apply(driver, element1, customText)).isTrue();
+    verify(driver, never()).executeJavaScript(anyString(), any());
+  }
+
+  @Test
+  void checksElementInJava_ifScriptFails() {
+    when(driver.executeJavaScript(anyString(), any())).thenThrow(new StaleElementReferenceException("stale"));
+
+    assertThat(compiler.apply(driver, element2, visible)).isTrue();
+  }
+
+  @Test
+  void checksElementInJava_byDefault() {
+    config.conditionsViaJs(false);
+
+    assertThat(compiler.apply(driver, element2, visible)).isTrue();
+    verify(driver, never()).executeJavaScript(anyString(), any());
+  }
+
+  @Test
+  void filtersAllElementsWithSingleJavaScriptCall() {
+    List<WebElement> elements = asList(element1, element2);
+    when(driver.executeJavaScript(anyString(), eq(elements))).thenReturn(asList(true, false));
+
+    assertThat(compiler.filter(driver, elements, visible)).containsExactly(element1);
+    verify(element1, never()).isDisplayed();
+    verify(element2, never()).isDisplayed();
+  }
+
+  @Test
+  void findsFirstMatchingElementWithSingleJavaScriptCall() {
+    List<WebElement> elements = asList(element1, element2);
+    when(driver.executeJavaScript(anyString(), eq(elements))).thenReturn(1L, -1L);
+
+    assertThat(compiler.findFirst(driver, elements, visible)).isSameAs(element2);
+    assertThat(compiler.findFirst(driver, elements, visible)).isNull();
+    verify(element2, never()).isDisplayed();
+  }
+
+  @Test
+  void filtersElementsInJava_forConditionsWithoutJavaScriptForm() {
+    when(element1.getText()).thenReturn("ab");
+    when(element2.getText()).thenReturn("ba");
+    List<WebElement> elements = asList(element1, element2);
+
+    assertThat(compiler.filter(driver, elements, matchText("a.*b"))).containsExactly(element1);
+    assertThat(compiler.findFirst(driver, elements, matchText("b.*a"))).isSameAs(element2);
+    verify(driver, never()).executeJavaScript(anyString(), any());
+  }
+
+  @Test
+  void quotesJavaScriptStrings() {
+    assertThat(ConditionCompiler.quote("it's \"ok\"\\\n ")).isEqualTo("'it\\'s \"ok\"\\\\\\n\\u2028'");
+  }
+}
@@ -1,17 +1,30 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementShould;
+import com.google.common.collect.ImmutableMap;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class DescribeTest implements WithAssertions {
@@ -40,4 +53,51 @@ class DescribeTest implements WithAssertions {
     assertThat(Describe.shortly(driver, selenideElement))
       .isEqualTo("StaleElementReferenceException: disappeared");
   }
+
+  @Test
+  void describesAllElementsWithSingleJavaScriptCall() {
+    Driver driver = mock(Driver.class);
+    when(driver.supportsJavascript()).thenReturn(true);
+    when(driver.browser()).thenReturn(new Browser("chrome", false));
+    WebElement input = mock(WebElement.class);
+    WebElement option = mock(WebElement.class);
+    List<WebElement> elements = asList(input, option);
+    when(driver.executeJavaScript(anyString(), eq(elements))).thenReturn(asList(
+      details("input", ImmutableMap.of("id", "name"), "John", "text", "", false, true),
+      details("option", emptyMap(), "1", null, "One", true, false)
+    ));
+
+    assertThat(Describe.describe(driver, elements)).containsExactly(
+      "<input id=\"name\" type=\"text\" value=\"John\"></input>",
+      "<option value=\"1\" selected:true displayed:false>One</option>"
+    );
+    verify(driver).executeJavaScript(anyString(), eq(elements));
+    verifyNoMoreInteractions(input, option);
+  }
+
+  @Test
+  void describesElementsOneByOne_ifBrowserDoesNotSupportJavaScript() {
+    Driver driver = mock(Driver.class);
+    when(driver.supportsJavascript()).thenReturn(false);
+    WebElement element = mock(WebElement.class);
+    when(element.getTagName()).thenReturn("div");
+    when(element.getAttribute("id")).thenReturn("main");
+    when(element.getText()).thenReturn("Hello");
+    when(element.isDisplayed()).thenReturn(true);
+
+    assertThat(Describe.describe(driver, singletonList(element))).containsExactly("<div id=\"main\">Hello</div>");
+  }
+
+  private Map<String, Object> details(String tagName, Map<String, String> attributes, String value, String type,
+                                      String text, boolean selected, boolean displayed) {
+    Map<String, Object> details = new HashMap<>();
+    details.put("tagName", tagName);
+    details.put("attributes", attributes);
+    details.put("value", value);
+    details.put("type", type);
+    details.put("text", text);
+    details.put("selected", selected);
+    details.put("displayed", displayed);
+    return details;
+  }
 }
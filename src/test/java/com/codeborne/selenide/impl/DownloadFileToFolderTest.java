@@ -0,0 +1,153 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.webdriver.DownloadsFolders;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.FileUtils.deleteDirectory;
+import static org.apache.commons.io.FileUtils.readFileToString;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DownloadFileToFolderTest implements WithAssertions {
+  private final File downloadsFolder = new File("build/downloads-test");
+  private final SelenideConfig config = new SelenideConfig()
+    .downloadsFolder(downloadsFolder.getPath())
+    .reportsFolder("build/reports/tests");
+  private final DownloadFileToFolder command = new DownloadFileToFolder();
+  private final WebElementSource linkWithHref = mock(WebElementSource.class);
+  private final WebElement link = mock(WebElement.class);
+  private final WebDriver webDriver = mock(WebDriver.class);
+
+  @BeforeEach
+  void setUp() throws IOException {
+    deleteDirectory(downloadsFolder);
+    when(linkWithHref.driver()).thenReturn(new DriverStub(config, new Browser("chrome", false), webDriver, null));
+    when(linkWithHref.toString()).thenReturn("<a href='report.pdf'>report</a>");
+  }
+
+  @Test
+  void returnsFileAsSoonAsBrowserRenamesIt() throws IOException {
+    emulateBrowserDownload(() -> {
+      File temporaryFile = new File(downloadsFolder, "Unconfirmed 12345.crdownload");
+      writeStringToFile(temporaryFile, "report content", UTF_8);
+      sleep(300);
+      assertThat(temporaryFile.renameTo(new File(downloadsFolder, "report.pdf"))).isTrue();
+    });
+
+    long start = System.currentTimeMillis();
+    File file = command.download(linkWithHref, link, 10_000);
+
+    assertThat(System.currentTimeMillis() - start).isLessThan(5_000);
+    assertThat(file.getName()).isEqualTo("report.pdf");
+    assertThat(file.getAbsolutePath()).startsWith(new File("build/reports/tests").getAbsolutePath());
+    assertThat(readFileToString(file, UTF_8)).isEqualTo("report content");
+    assertThat(downloadsFolder.list()).isEmpty();
+  }
+
+  @Test
+  void waitsUntilTemporaryFileDisappears() throws IOException {
+    emulateBrowserDownload(() -> {
+      File placeholder = new File(downloadsFolder, "report.csv");
+      File temporaryFile = new File(downloadsFolder, "report.csv.part");
+      assertThat(placeholder.createNewFile()).isTrue();
+      sleep(100);
+      writeStringToFile(temporaryFile, "a,b,c", UTF_8);
+      sleep(300);
+      assertThat(placeholder.delete()).isTrue();
+      assertThat(temporaryFile.renameTo(placeholder)).isTrue();
+    });
+
+    File file = command.download(linkWithHref, link, 10_000);
+
+    assertThat(file.getName()).isEqualTo("report.csv");
+    assertThat(readFileToString(file, UTF_8)).isEqualTo("a,b,c");
+  }
+
+  @Test
+  void downloadsEmptyFile() throws IOException {
+    emulateBrowserDownload(() -> {
+      File placeholder = new File(downloadsFolder, "empty.txt");
+      File temporaryFile = new File(downloadsFolder, "empty.txt.part");
+      assertThat(temporaryFile.createNewFile()).isTrue();
+      assertThat(placeholder.createNewFile()).isTrue();
+      sleep(300);
+      assertThat(temporaryFile.delete()).isTrue();
+    });
+
+    File file = command.download(linkWithHref, link, 10_000);
+
+    assertThat(file.getName()).isEqualTo("empty.txt");
+    assertThat(file.length()).isEqualTo(0);
+  }
+
+  @Test
+  void takesFileFromFolderOfGivenBrowser() throws IOException {
+    File browserFolder = new File(downloadsFolder, "browser-1").getAbsoluteFile();
+    DownloadsFolders downloadsFolders = mock(DownloadsFolders.class);
+    when(downloadsFolders.folder(config, webDriver)).thenReturn(browserFolder);
+    emulateBrowserDownload(() -> {
+      writeStringToFile(new File(downloadsFolder, "other-browser-report.pdf"), "other content", UTF_8);
+      File temporaryFile = new File(browserFolder, "report.pdf.crdownload");
+      writeStringToFile(temporaryFile, "report content", UTF_8);
+      assertThat(temporaryFile.renameTo(new File(browserFolder, "report.pdf"))).isTrue();
+    });
+
+    File file = new DownloadFileToFolder(new Downloader(), downloadsFolders).download(linkWithHref, link, 10_000);
+
+    assertThat(file.getName()).isEqualTo("report.pdf");
+    assertThat(readFileToString(file, UTF_8)).isEqualTo("report content");
+  }
+
+  @Test
+  void ignoresFilesDownloadedBefore() throws IOException {
+    writeStringToFile(new File(downloadsFolder, "old-report.pdf"), "old content", UTF_8);
+    emulateBrowserDownload(() -> {
+    });
+
+    assertThatThrownBy(() -> command.download(linkWithHref, link, 100))
+      .isInstanceOf(FileNotFoundException.class)
+      .hasMessageStartingWith("Failed to download file <a href='report.pdf'>report</a> in 100 ms.");
+  }
+
+  private void emulateBrowserDownload(Download download) {
+    doAnswer(invocation -> {
+      Thread browser = new Thread(() -> {
+        try {
+          download.run();
+        }
+        catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      });
+      browser.start();
+      return null;
+    }).when(link).click();
+  }
+
+  private interface Download {
+    void run() throws IOException;
+  }
+
+  private static void sleep(long ms) {
+    try {
+      Thread.sleep(ms);
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -6,16 +6,34 @@ import com.codeborne.selenide.SelenideConfig;
 import com.google.common.collect.ImmutableSet;
 import org.apache.http.Header;
 import org.apache.http.HttpResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.protocol.HttpContext;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebDriver;
 
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.apache.commons.io.FileUtils.readFileToString;
 import static org.apache.http.client.protocol.HttpClientContext.COOKIE_STORE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -63,7 +81,8 @@ public class DownloadFileWithHttpRequestTest {
 
     HttpContext httpContext = download.createHttpContext(driver);
 
-    assertThat(httpContext.getAttribute(COOKIE_STORE)).isNull();
+    BasicCookieStore bs = (BasicCookieStore) httpContext.getAttribute(COOKIE_STORE);
+    assertThat(bs.getCookies()).isEmpty();
   }
 
   @Test
@@ -109,4 +128,128 @@ public class DownloadFileWithHttpRequestTest {
     when(response.getAllHeaders()).thenReturn(headers);
     return response;
   }
+
+  @Test
+  void downloadsSeveralFilesInParallel() throws IOException {
+    AtomicInteger activeRequests = new AtomicInteger();
+    AtomicInteger maxActiveRequests = new AtomicInteger();
+    HttpServer server = startServer(exchange -> {
+      maxActiveRequests.accumulateAndGet(activeRequests.incrementAndGet(), Math::max);
+      sleep(200);
+      activeRequests.decrementAndGet();
+      respond(exchange, 200);
+    });
+    try {
+      DownloadFileWithHttpRequest download = new DownloadFileWithHttpRequest();
+      Driver driver = driver(new SelenideConfig().reportsFolder("build/downloads").parallelDownloads(3));
+      List<String> urls = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        urls.add("http://localhost:" + server.getAddress().getPort() + "/report-" + i + ".txt");
+      }
+
+      List<File> files = download.download(driver, urls, 5000);
+
+      assertThat(files).extracting(File::getName)
+        .containsExactly("report-0.txt", "report-1.txt", "report-2.txt", "report-3.txt", "report-4.txt", "report-5.txt");
+      assertThat(readFileToString(files.get(5), UTF_8)).isEqualTo("/report-5.txt");
+      assertThat(maxActiveRequests.get()).isBetween(2, 3);
+    }
+    finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  void failsIfAnyOfFilesCannotBeDownloaded() throws IOException {
+    HttpServer server = startServer(exchange -> respond(exchange, exchange.getRequestURI().getPath().endsWith("missing") ? 404 : 200));
+    try {
+      DownloadFileWithHttpRequest download = new DownloadFileWithHttpRequest();
+      Driver driver = driver(new SelenideConfig().reportsFolder("build/downloads"));
+      String baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+      assertThatThrownBy(() -> download.download(driver, asList(baseUrl + "/report.txt", baseUrl + "/missing"), 5000))
+        .isInstanceOf(FileNotFoundException.class)
+        .hasMessage("Failed to download file " + baseUrl + "/missing: HTTP/1.1 404 Not Found");
+    }
+    finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  void reusesHttpClientForAllDownloads() throws IOException {
+    HttpServer server = startServer(exchange -> respond(exchange, 200));
+    try {
+      DownloadFileWithHttpRequest download = new DownloadFileWithHttpRequest();
+      Driver driver = driver(new SelenideConfig().reportsFolder("build/downloads"));
+      String url = "http://localhost:" + server.getAddress().getPort() + "/report.txt";
+
+      download.download(driver, url, 5000);
+      CloseableHttpClient httpClient = download.httpClient();
+      download.download(driver, url, 5000);
+
+      assertThat(download.httpClient()).isSameAs(httpClient);
+    }
+    finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  void doesNotShareCookiesBetweenDownloads() throws IOException {
+    List<String> receivedCookies = new ArrayList<>();
+    HttpServer server = startServer(exchange -> {
+      receivedCookies.add(exchange.getRequestHeaders().getFirst("Cookie"));
+      exchange.getResponseHeaders().add("Set-Cookie", "session=123; Path=/");
+      respond(exchange, 200);
+    });
+    try {
+      DownloadFileWithHttpRequest download = new DownloadFileWithHttpRequest();
+      Driver driver = driver(new SelenideConfig().reportsFolder("build/downloads"));
+      String url = "http://localhost:" + server.getAddress().getPort() + "/report.txt";
+
+      download.download(driver, url, 5000);
+      download.download(driver, url, 5000);
+
+      assertThat(receivedCookies).containsExactly(null, null);
+    }
+    finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  void downloadsNothingForEmptyListOfUrls() throws IOException {
+    assertThat(download.download(mock(Driver.class), emptyList(), 5000)).isEmpty();
+  }
+
+  private Driver driver(Config config) {
+    Driver driver = mock(Driver.class);
+    when(driver.config()).thenReturn(config);
+    return driver;
+  }
+
+  private HttpServer startServer(HttpHandler handler) throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/", handler);
+    server.start();
+    return server;
+  }
+
+  private void respond(HttpExchange exchange, int code) throws IOException {
+    byte[] body = exchange.getRequestURI().getPath().getBytes(UTF_8);
+    exchange.sendResponseHeaders(code, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+
+  private void sleep(long ms) {
+    try {
+      Thread.sleep(ms);
+    }
+    catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
 }
@@ -20,9 +20,9 @@ import java.io.IOException;
 
 import static java.util.Arrays.asList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyLong;
-import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -33,8 +33,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 class DownloadFileWithProxyServerTest implements WithAssertions {
-  private Waiter waiter = mock(Waiter.class);
-  private DownloadFileWithProxyServer command = new DownloadFileWithProxyServer(waiter);
+  private DownloadFileWithProxyServer command = new DownloadFileWithProxyServer();
   private final SelenideConfig config = new SelenideConfig();
   private WebDriver webdriver = mock(WebDriver.class);
   private SelenideProxyServer proxy = mock(SelenideProxyServer.class);
@@ -44,7 +43,6 @@ class DownloadFileWithProxyServerTest implements WithAssertions {
 
   @BeforeEach
   void setUp() {
-    doNothing().when(waiter).wait(any(), any(), anyLong(), anyLong());
     when(webdriver.switchTo()).thenReturn(mock(TargetLocator.class));
 
     when(proxy.responseFilter("download")).thenReturn(filter);
@@ -63,14 +61,31 @@ class DownloadFileWithProxyServerTest implements WithAssertions {
 
     verify(filter).activate();
     verify(link).click();
+    verify(filter).awaitDownloadedFiles(eq(1), any(), eq(3000L));
     verify(filter).deactivate();
   }
 
+  @Test
+  void canWaitForSeveralFiles() throws IOException {
+    emulateServerResponseWithFiles(new File("report.pdf"), new File("report.csv"));
+
+    assertThat(command.download(linkWithHref, link, proxy, 3000, 2, file -> file.getName().startsWith("report")))
+      .extracting(File::getName)
+      .containsExactly("report.pdf", "report.csv");
+    verify(filter).awaitDownloadedFiles(eq(2), any(), eq(3000L));
+  }
+
+  @Test
+  void throwsFileNotFoundException_ifNotAllFilesHaveBeenDownloaded() {
+    emulateServerResponseWithFiles(new File("report.pdf"));
+
+    assertThatThrownBy(() -> command.download(linkWithHref, link, proxy, 3000, 2, file -> true))
+      .isInstanceOf(FileNotFoundException.class)
+      .hasMessageStartingWith("Failed to download 2 files <a href='report.pdf'>report</a> in 3000 ms.");
+  }
+
   private void emulateServerResponseWithFiles(final File... files) {
-    doAnswer(invocation -> {
-      filter.getDownloadedFiles().addAll(asList(files));
-      return null;
-    }).when(link).click();
+    doReturn(asList(files)).when(filter).awaitDownloadedFiles(anyInt(), any(), anyLong());
   }
 
   @Test
@@ -1,12 +1,25 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ElementFinderTest implements WithAssertions {
@@ -43,4 +56,101 @@ class ElementFinderTest implements WithAssertions {
     assertThat(new ElementFinder(driver, parent, By.xpath("//*[@id='app']"), 3))
       .hasToString("{By.xpath: //*[@id='app'][3]}");
   }
+
+  @Test
+  void searchesElementBeforeEveryCommand_byDefault() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.findElement(By.id("app"))).thenReturn(element);
+    ElementFinder finder = new ElementFinder(driverStub(new SelenideConfig(), webDriver), null, By.id("app"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(element);
+    assertThat(finder.getWebElement()).isSameAs(element);
+    verify(webDriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  void reusesFoundElement_ifCacheIsEnabled() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.findElement(By.id("app"))).thenReturn(element);
+    ElementFinder finder = new ElementFinder(driverStub(new SelenideConfig().cacheElements(true), webDriver), null, By.id("app"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(element);
+    assertThat(finder.getWebElement()).isSameAs(element);
+    verify(webDriver, times(1)).findElement(By.id("app"));
+  }
+
+  @Test
+  void searchesElementAgain_afterItWasForgotten() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+    when(webDriver.findElement(By.id("app"))).thenReturn(element1, element2);
+    ElementFinder finder = new ElementFinder(driverStub(new SelenideConfig().cacheElements(true), webDriver), null, By.id("app"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(element1);
+    finder.forgetCachedElement();
+    assertThat(finder.getWebElement()).isSameAs(element2);
+  }
+
+  @Test
+  void searchesElementAgain_afterBrowserOpenedAnotherPage() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+    when(webDriver.findElement(By.id("app"))).thenReturn(element1, element2);
+    Driver driver = driverStub(new SelenideConfig().cacheElements(true), webDriver);
+    ElementFinder finder = new ElementFinder(driver, null, By.id("app"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(element1);
+    ElementCache.invalidate(driver);
+    assertThat(finder.getWebElement()).isSameAs(element2);
+    assertThat(finder.getWebElement()).isSameAs(element2);
+  }
+
+  @Test
+  void searchesParentAgain_ifItHasBecomeStale() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement staleParent = mock(WebElement.class);
+    WebElement parent = mock(WebElement.class);
+    WebElement child = mock(WebElement.class);
+    when(webDriver.findElement(By.id("grid"))).thenReturn(staleParent, parent);
+    when(staleParent.findElement(By.className("row"))).thenThrow(new StaleElementReferenceException("grid was re-rendered"));
+    when(parent.findElement(By.className("row"))).thenReturn(child);
+    Driver driver = driverStub(new SelenideConfig().cacheElements(true), webDriver);
+    SelenideElement grid = ElementFinder.wrap(driver, By.id("grid"));
+    ElementFinder row = new ElementFinder(driver, grid, By.className("row"), 0);
+
+    assertThat(grid.toWebElement()).isSameAs(staleParent);
+    assertThat(row.getWebElement()).isSameAs(child);
+    verify(webDriver, times(2)).findElement(By.id("grid"));
+  }
+
+  @Test
+  void searchesElementWithoutError_ifItDoesNotExist() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.findElements(By.id("app"))).thenReturn(emptyList(), singletonList(element));
+    ElementFinder finder = new ElementFinder(driverStub(new SelenideConfig(), webDriver), null, By.id("app"), 0);
+
+    assertThat(finder.getWebElementOrNull()).isNull();
+    assertThat(finder.getWebElementOrNull()).isSameAs(element);
+    verify(webDriver, never()).findElement(any());
+  }
+
+  @Test
+  void searchesElementByIndexWithoutError_ifItDoesNotExist() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.findElements(By.className("row"))).thenReturn(singletonList(element), asList(element, element));
+    ElementFinder finder = new ElementFinder(driverStub(new SelenideConfig(), webDriver), null, By.className("row"), 1);
+
+    assertThat(finder.getWebElementOrNull()).isNull();
+    assertThat(finder.getWebElementOrNull()).isSameAs(element);
+  }
+
+  private Driver driverStub(SelenideConfig config, WebDriver webDriver) {
+    return new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  }
 }
@@ -0,0 +1,78 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElementsTextsTest implements WithAssertions {
+  private SelenideConfig config = new SelenideConfig();
+  private Driver driver = mock(Driver.class);
+  private WebElement element1 = mock(WebElement.class);
+  private WebElement element2 = mock(WebElement.class);
+
+  @BeforeEach
+  void setUp() {
+    when(driver.config()).thenReturn(config);
+    when(driver.supportsJavascript()).thenReturn(true);
+    when(element1.getText()).thenReturn("one");
+    when(element2.getText()).thenReturn("two");
+  }
+
+  @Test
+  void readsTextsOfElementsLazily() {
+    List<String> texts = ElementsTexts.instance.texts(asList(element1, element2));
+
+    assertThat(texts.get(1)).isEqualTo("two");
+    verify(element1, never()).getText();
+    assertThat(texts).containsExactly("one", "two");
+  }
+
+  @Test
+  void readsTextsOfElementsOneByOne_byDefault() {
+    assertThat(ElementsTexts.instance.texts(driver, asList(element1, element2))).containsExactly("one", "two");
+    verify(driver, never()).executeJavaScript(anyString(), any());
+  }
+
+  @Test
+  void readsAllTextsWithSingleJavascriptCall_ifTextsViaJsIsEnabled() {
+    config.textsViaJs(true);
+    List<WebElement> elements = asList(element1, element2);
+    when(driver.executeJavaScript(anyString(), any())).thenReturn(asList("uno", "dos"));
+
+    assertThat(ElementsTexts.instance.texts(driver, elements)).containsExactly("uno", "dos");
+    verify(driver).executeJavaScript(anyString(), any());
+    verify(element1, never()).getText();
+    verify(element2, never()).getText();
+  }
+
+  @Test
+  void doesNotCallJavascript_forEmptyCollection() {
+    config.textsViaJs(true);
+
+    assertThat(ElementsTexts.instance.texts(driver, emptyList())).isEmpty();
+    verify(driver, never()).executeJavaScript(anyString(), any());
+  }
+
+  @Test
+  void readsTextsOneByOne_ifBrowserDoesNotSupportJavascript() {
+    config.textsViaJs(true);
+    when(driver.supportsJavascript()).thenReturn(false);
+
+    assertThat(ElementsTexts.instance.texts(driver, asList(element1, element2))).containsExactly("one", "two");
+    verify(driver, never()).executeJavaScript(anyString(), any());
+  }
+}
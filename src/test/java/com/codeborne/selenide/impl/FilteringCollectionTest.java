@@ -3,6 +3,7 @@ package com.codeborne.selenide.impl;
 import java.util.List;
 
 import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.DriverStub;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
@@ -22,6 +23,7 @@ class FilteringCollectionTest implements WithAssertions {
 
     WebElementsCollection mockedCollection = mock(WebElementsCollection.class);
     when(mockedCollection.getElements()).thenReturn(asList(mockedWebElement1, mockedWebElement2));
+    when(mockedCollection.driver()).thenReturn(new DriverStub());
     FilteringCollection filteringCollection = new FilteringCollection(mockedCollection, Condition.visible);
 
     List<WebElement> actualElements = filteringCollection.getElements();
@@ -0,0 +1,101 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static com.codeborne.selenide.Condition.matchText;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class MutationObserverWaitTest implements WithAssertions {
+  private final MutationObserverWait wait = new MutationObserverWait();
+  private final Driver driver = mock(Driver.class);
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final WebElementSource source = mock(WebElementSource.class);
+  private final WebElement element = mock(WebElement.class);
+
+  @BeforeEach
+  void setUp() {
+    when(driver.supportsJavascript()).thenReturn(true);
+    when(driver.getWebDriver()).thenReturn(webDriver);
+    when(source.driver()).thenReturn(driver);
+    when(source.getWebElement()).thenReturn(element);
+  }
+
+  @Test
+  void waitsInBrowserUntilElementMatchesCondition() {
+    assertThat(wait.await(source, new Object[]{new Condition[]{visible, text("Hello")}}, false, 4000, 100)).isTrue();
+
+    verify(js()).executeAsyncScript(contains("return !!((visible(e)) && (contains(selectedText(e), 'Hello')));"),
+      eq(element), eq(4000L), eq(100L));
+  }
+
+  @Test
+  void waitsUntilElementDoesNotMatchConditions_forShouldNotMethods() {
+    assertThat(wait.await(source, new Object[]{visible, 3000L}, true, 3000, 200)).isTrue();
+
+    verify(js()).executeAsyncScript(contains("return !!(!(visible(e)));"), eq(element), eq(3000L), eq(200L));
+  }
+
+  @Test
+  void waitsInBrowserByLimitedPortions() {
+    assertThat(wait.await(source, new Object[]{visible}, false, 60_000, 200)).isTrue();
+
+    verify(js()).executeAsyncScript(anyString(), eq(element), eq(10_000L), eq(200L));
+  }
+
+  @Test
+  void cannotWaitInBrowser_forConditionsWithoutJavaScriptForm() {
+    assertThat(wait.await(source, new Object[]{new Condition[]{visible, matchText("a.*b")}}, false, 4000, 100)).isFalse();
+
+    verify(js(), never()).executeAsyncScript(anyString(), any());
+  }
+
+  @Test
+  void cannotWaitInBrowser_ifTimeoutIsReached() {
+    assertThat(wait.await(source, new Object[]{visible}, false, 0, 100)).isFalse();
+
+    verify(js(), never()).executeAsyncScript(anyString(), any());
+  }
+
+  @Test
+  void stopsWaitingInBrowser_ifWebdriverDoesNotAllowLongAsyncScripts() {
+    when(js().executeAsyncScript(anyString(), any(), any(), any())).thenThrow(new ScriptTimeoutException("timeout: 0 ms"));
+
+    assertThat(wait.await(source, new Object[]{visible}, false, 4000, 100)).isFalse();
+    assertThat(wait.await(source, new Object[]{visible}, false, 4000, 100)).isFalse();
+
+    verify(js(), times(1)).executeAsyncScript(anyString(), any(), any(), any());
+  }
+
+  @Test
+  void pollsAsUsual_ifConditionFailsInBrowser() {
+    when(js().executeAsyncScript(anyString(), any(), any(), any())).thenReturn("SyntaxError: unsupported selector");
+
+    assertThat(wait.await(source, new Object[]{visible}, false, 4000, 100)).isFalse();
+    assertThat(wait.await(source, new Object[]{visible}, false, 4000, 100)).isFalse();
+
+    verify(js(), times(2)).executeAsyncScript(anyString(), any(), any(), any());
+  }
+
+  private JavascriptExecutor js() {
+    return (JavascriptExecutor) webDriver;
+  }
+}
@@ -0,0 +1,108 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class NestedElementFinderTest implements WithAssertions {
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final JavascriptExecutor js = (JavascriptExecutor) webDriver;
+  private final Driver driver = driver(new SelenideConfig().nestedSelectorsViaJs(true));
+  private final WebElement price = mock(WebElement.class);
+
+  @Test
+  void findsNestedElementWithSingleScript() {
+    when(js.executeScript(anyString(), any(), any())).thenReturn(price);
+    SelenideElement grid = ElementFinder.wrap(driver, By.cssSelector("#grid"));
+    SelenideElement row = grid.find(".row", 3);
+
+    assertThat(row.find(By.xpath(".//td[@class='price']")).toWebElement()).isSameAs(price);
+
+    verify(js).executeScript(anyString(), isNull(), eq(asList(
+      asList("#grid", false, 0),
+      asList(".row", false, 3),
+      asList(".//td[@class='price']", true, 0))));
+    verify(webDriver, never()).findElement(any());
+    verify(webDriver, never()).findElements(any());
+  }
+
+  @Test
+  void reportsThatElementDoesNotExist_ifAllParentsExist() {
+    when(js.executeScript(anyString(), any(), any())).thenReturn(1L);
+    ElementFinder price = new ElementFinder(driver, ElementFinder.wrap(driver, By.cssSelector("#grid")), By.cssSelector(".price"), 0);
+
+    assertThat(NestedElementFinder.instance.find(price)).isEmpty();
+  }
+
+  @Test
+  void searchesElementsOneByOne_ifSomeParentDoesNotExist() {
+    when(js.executeScript(anyString(), any(), any())).thenReturn(0L);
+    ElementFinder price = new ElementFinder(driver, ElementFinder.wrap(driver, By.cssSelector("#grid")), By.cssSelector(".price"), 0);
+
+    assertThat(NestedElementFinder.instance.find(price)).isNull();
+  }
+
+  @Test
+  void searchesElementsOneByOne_ifScriptFailed() {
+    when(js.executeScript(anyString(), any(), any())).thenThrow(new JavascriptException("SyntaxError: '#grid[' is not a valid selector"));
+    ElementFinder price = new ElementFinder(driver, ElementFinder.wrap(driver, By.cssSelector("#grid[")), By.cssSelector(".price"), 0);
+
+    assertThat(NestedElementFinder.instance.find(price)).isNull();
+  }
+
+  @Test
+  void startsFromCachedParent() {
+    WebElement grid = mock(WebElement.class);
+    Driver driver = driver(new SelenideConfig().nestedSelectorsViaJs(true).cacheElements(true));
+    when(webDriver.findElement(By.cssSelector("#grid"))).thenReturn(grid);
+    when(js.executeScript(anyString(), any(), any())).thenReturn(price);
+    SelenideElement cachedGrid = ElementFinder.wrap(driver, By.cssSelector("#grid"));
+    cachedGrid.toWebElement();
+    ElementFinder price = new ElementFinder(driver, cachedGrid.find(".row"), By.cssSelector(".price"), 0);
+
+    assertThat(NestedElementFinder.instance.find(price)).containsExactly(this.price);
+    verify(js).executeScript(anyString(), eq(grid), eq(asList(asList(".row", false, 0), asList(".price", false, 0))));
+  }
+
+  @Test
+  void doesNotSupportOtherSelectors() {
+    ElementFinder price = new ElementFinder(driver, ElementFinder.wrap(driver, By.id("grid")), By.cssSelector(".price"), 0);
+
+    assertThat(NestedElementFinder.instance.find(price)).isNull();
+    verifyNoMoreInteractions(webDriver);
+  }
+
+  @Test
+  void isDisabledByDefault() {
+    Driver driver = driver(new SelenideConfig());
+    ElementFinder price = new ElementFinder(driver, ElementFinder.wrap(driver, By.cssSelector("#grid")), By.cssSelector(".price"), 0);
+
+    assertThat(NestedElementFinder.instance.find(price)).isNull();
+    verifyNoMoreInteractions(webDriver);
+  }
+
+  private Driver driver(SelenideConfig config) {
+    return new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  }
+}
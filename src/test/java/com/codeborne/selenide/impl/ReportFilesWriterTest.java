@@ -0,0 +1,61 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class ReportFilesWriterTest implements WithAssertions {
+  private final ReportFilesWriter writer = new ReportFilesWriter();
+  private File folder;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    folder = Files.createTempDirectory("report-files-writer").toFile();
+  }
+
+  @Test
+  void writesFileImmediately_byDefault() throws IOException {
+    File file = new File(folder, "sub/folder/page.html");
+
+    writer.write(new SelenideConfig(), file, "<html>Hello</html>");
+
+    assertThat(new String(Files.readAllBytes(file.toPath()), UTF_8)).isEqualTo("<html>Hello</html>");
+  }
+
+  @Test
+  void writesFilesInBackground_ifAsyncScreenshotsEnabled() throws IOException {
+    SelenideConfig config = new SelenideConfig().asyncScreenshots(true);
+    for (int i = 0; i < 100; i++) {
+      writer.write(config, new File(folder, "screenshot." + i + ".png"), new byte[]{1, 2, 3, (byte) i});
+    }
+
+    writer.flush();
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(Files.readAllBytes(new File(folder, "screenshot." + i + ".png").toPath()))
+        .isEqualTo(new byte[]{1, 2, 3, (byte) i});
+    }
+  }
+
+  @Test
+  void encodesImageToPng() throws IOException {
+    File file = new File(folder, "element.png");
+
+    writer.write(new SelenideConfig().asyncScreenshots(true), file, new BufferedImage(20, 10, TYPE_INT_RGB));
+    writer.flush();
+
+    BufferedImage image = ImageIO.read(file);
+    assertThat(image.getWidth()).isEqualTo(20);
+    assertThat(image.getHeight()).isEqualTo(10);
+  }
+}
@@ -1,18 +1,42 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
-
+import org.mockito.InOrder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
 import static java.io.File.separatorChar;
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class ScreenShotLaboratoryTest implements WithAssertions {
   private ScreenShotLaboratory screenshots = new ScreenShotLaboratory() {
     @Override
-    public String takeScreenShot(Driver driver, String fileName) {
+    protected String takeScreenShot(Driver driver, String fileName, boolean waitUntilWritten) {
       addToHistory(new File(fileName));
       return fileName;
     }
@@ -113,4 +137,53 @@ class ScreenShotLaboratoryTest implements WithAssertions {
     assertThat(screenshots.getLastScreenshot())
       .hasToString("12356789.2");
   }
+
+  @Test
+  void cropsAllElementsFromSingleScreenshot() throws IOException {
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(TakesScreenshot.class, JavascriptExecutor.class));
+    when(((TakesScreenshot) webDriver).getScreenshotAs(OutputType.BYTES)).thenReturn(png(200, 100));
+    List<WebElement> elements = asList(mock(WebElement.class), mock(WebElement.class), mock(WebElement.class));
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), any())).thenReturn(asList(
+      asList(0L, 0L, 50L, 20L),
+      asList(10.5, 30.9, 100L, 40L),
+      asList(150L, 90L, 100L, 40L)
+    ));
+    Driver driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+
+    List<BufferedImage> images = screenshots.takeScreenshotsAsImages(driver, elements);
+
+    assertThat(images).hasSize(3);
+    assertThat(images.get(0).getWidth()).isEqualTo(50);
+    assertThat(images.get(0).getHeight()).isEqualTo(20);
+    assertThat(images.get(1).getWidth()).isEqualTo(100);
+    assertThat(images.get(1).getHeight()).isEqualTo(40);
+    assertThat(images.get(2)).as("element outside of screen").isNull();
+    verify((TakesScreenshot) webDriver).getScreenshotAs(OutputType.BYTES);
+    verify((JavascriptExecutor) webDriver).executeScript(anyString(), any());
+    verify(elements.get(0), never()).getLocation();
+  }
+
+  private byte[] png(int width, int height) throws IOException {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(width, height, TYPE_INT_RGB), "png", png);
+    return png.toByteArray();
+  }
+
+  @Test
+  void explicitScreenshotsAreWrittenToDiskBeforeReturning() throws IOException {
+    ScreenShotLaboratory laboratory = new ScreenShotLaboratory();
+    laboratory.writer = mock(ReportFilesWriter.class);
+    WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(TakesScreenshot.class));
+    when(((TakesScreenshot) webDriver).getScreenshotAs(OutputType.BYTES)).thenReturn(png(200, 100));
+    SelenideConfig config = new SelenideConfig().asyncScreenshots(true).savePageSource(false);
+    Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+
+    laboratory.takeScreenShot(driver);
+    verify(laboratory.writer, never()).flush();
+
+    laboratory.takeScreenShot(driver, "explicit");
+    InOrder inOrder = inOrder(laboratory.writer);
+    inOrder.verify(laboratory.writer).write(eq(config), eq(new File(config.reportsFolder(), "explicit.png")), any(byte[].class));
+    inOrder.verify(laboratory.writer).flush();
+  }
 }
@@ -2,14 +2,17 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Commands;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class SelenideElementIteratorTest implements WithAssertions {
@@ -19,6 +22,7 @@ class SelenideElementIteratorTest implements WithAssertions {
   @BeforeEach
   void setUp() {
     when(mockedWebElementCollection.driver()).thenReturn(driver);
+    when(driver.commands()).thenReturn(Commands.getInstance());
   }
 
   @Test
@@ -67,4 +71,22 @@ class SelenideElementIteratorTest implements WithAssertions {
         .hasMessage("Cannot remove elements from web page");
     }
   }
+
+  @Test
+  void findsCollectionOnlyOnce() {
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+    when(element2.getTagName()).thenReturn("a");
+    when(element2.isDisplayed()).thenReturn(true);
+    when(element2.getText()).thenReturn("second");
+    when(mockedWebElementCollection.getElements()).thenReturn(asList(element1, element2));
+
+    SelenideElementIterator iterator = new SelenideElementIterator(mockedWebElementCollection);
+    iterator.next();
+    SelenideElement second = iterator.next();
+
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(second).hasToString("<a>second</a>");
+    verify(mockedWebElementCollection).getElements();
+  }
 }
@@ -2,6 +2,7 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.commands.Commands;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ class SelenideElementListIteratorTest implements WithAssertions {
   @BeforeEach
   void setUp() {
     when(mockedWebElementCollection.driver()).thenReturn(driver);
+    when(driver.commands()).thenReturn(Commands.getInstance());
   }
 
   @Test
@@ -22,6 +22,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 import java.util.logging.Logger;
 
 import static com.codeborne.selenide.Condition.disappear;
@@ -33,8 +34,11 @@ import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.impl.SelenideElementProxy.shouldRetryAfterError;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.FAIL;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -55,6 +59,12 @@ class SelenideElementProxyTest implements WithAssertions {
       .executeScript(anyString(), any(WebElement.class)))
       .thenReturn(ImmutableMap.of("id", "id1", "class", "class1"));
 
+    when(webdriver.executeScript(contains(".querySelector(arguments[0])"), anyString(), any()))
+      .thenAnswer(invocation -> {
+        List<WebElement> elements = webdriver.findElements(By.cssSelector(invocation.getArgument(1)));
+        return elements.isEmpty() ? null : elements.get(0);
+      });
+
     when(element.getTagName()).thenReturn("h1");
     when(element.getText()).thenReturn("Hello world");
     when(element.isDisplayed()).thenReturn(true);
@@ -69,12 +79,13 @@ class SelenideElementProxyTest implements WithAssertions {
   void elementShouldBeVisible() {
     when(element.isDisplayed()).thenReturn(true);
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     driver.find("#firstName").shouldBe(visible);
   }
 
   @Test
   void elementNotFound() {
-    when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(null);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(emptyList());
     assertThatThrownBy(() -> driver.find("#firstName").shouldBe(visible))
       .isInstanceOf(ElementNotFound.class);
   }
@@ -82,6 +93,7 @@ class SelenideElementProxyTest implements WithAssertions {
   @Test
   void elementFoundButNotMatched() {
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     when(element.isDisplayed()).thenReturn(false);
     assertThatThrownBy(() -> driver.find("#firstName").shouldBe(visible))
       .isInstanceOf(ElementShould.class);
@@ -90,6 +102,7 @@ class SelenideElementProxyTest implements WithAssertions {
   @Test
   void elementFoundButInvisible() {
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     when(element.isDisplayed()).thenThrow(new WebDriverException("failed to call isDisplayed"));
     assertThatThrownBy(() -> driver.find("#firstName").shouldBe(visible))
       .isInstanceOf(ElementShould.class);
@@ -98,6 +111,7 @@ class SelenideElementProxyTest implements WithAssertions {
   @Test
   void elementFoundButConditionCheckFailed() {
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     when(element.isDisplayed()).thenReturn(true);
     assertThatThrownBy(() -> driver.find("#firstName").shouldHave(text("goodbye")))
       .isInstanceOf(ElementShould.class);
@@ -105,7 +119,7 @@ class SelenideElementProxyTest implements WithAssertions {
 
   @Test
   void elementNotFoundAsExpected() {
-    when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(null);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(emptyList());
     driver.find("#firstName").shouldNotBe(exist);
     driver.find("#firstName").should(disappear);
     driver.find("#firstName").shouldNotBe(visible);
@@ -115,7 +129,7 @@ class SelenideElementProxyTest implements WithAssertions {
 
   @Test
   void elementNotFoundAsExpected2() {
-    when(webdriver.findElement(By.cssSelector("#firstName")))
+    when(webdriver.findElements(By.cssSelector("#firstName")))
       .thenThrow(new WebDriverException("element is not found and this is expected"));
     driver.find("#firstName").shouldNot(exist);
     driver.find("#firstName").should(disappear);
@@ -126,7 +140,7 @@ class SelenideElementProxyTest implements WithAssertions {
 
   @Test
   void webdriverReportsInvalidXpath_using_should() {
-    when(webdriver.findElement(By.cssSelector("#firstName")))
+    when(webdriver.findElements(By.cssSelector("#firstName")))
       .thenThrow(new InvalidSelectorException("Error INVALID_EXPRESSION_ERR ups"));
     assertThatThrownBy(() -> driver.find("#firstName").should(disappear))
       .isInstanceOf(InvalidSelectorException.class);
@@ -134,7 +148,7 @@ class SelenideElementProxyTest implements WithAssertions {
 
   @Test
   void webdriverReportsInvalidXpath_using_shouldNot() {
-    when(webdriver.findElement(By.cssSelector("#firstName")))
+    when(webdriver.findElements(By.cssSelector("#firstName")))
       .thenThrow(new InvalidSelectorException("Error INVALID_EXPRESSION_ERR ups"));
     assertThatThrownBy(() -> driver.find("#firstName").shouldNot(exist))
       .isInstanceOf(InvalidSelectorException.class);
@@ -143,6 +157,7 @@ class SelenideElementProxyTest implements WithAssertions {
   @Test
   void setValueShouldNotFailIfElementHasDisappearedWhileEnteringText() {
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     when(webdriver.executeScript(anyString(), any()))
       .thenThrow(new StaleElementReferenceException("element disappeared after entering text"));
     driver.find("#firstName").setValue("john");
@@ -154,6 +169,7 @@ class SelenideElementProxyTest implements WithAssertions {
     SelenideLogger.addListener("test", createListener(selector, "set value", PASS));
 
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     SelenideElement selEl = driver.find("#firstName");
     selEl.setValue("ABC");
   }
@@ -177,6 +193,7 @@ class SelenideElementProxyTest implements WithAssertions {
     SelenideLogger.addListener("test", createListener(selector, "should have", PASS));
 
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     when(element.getAttribute("value")).thenReturn("ABC");
     SelenideElement selEl = driver.find("#firstName");
     selEl.shouldHave(value("ABC"));
@@ -188,6 +205,7 @@ class SelenideElementProxyTest implements WithAssertions {
     SelenideLogger.addListener("test", createListener(selector, "should not have", PASS));
 
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     when(element.getAttribute("value")).thenReturn("wrong value");
     SelenideElement selEl = driver.find("#firstName");
     selEl.shouldNotHave(value("ABC"));
@@ -199,6 +217,7 @@ class SelenideElementProxyTest implements WithAssertions {
     SelenideLogger.addListener("test", createListener(selector, "should have", FAIL));
 
     when(webdriver.findElement(By.cssSelector("#firstName"))).thenReturn(element);
+    when(webdriver.findElements(By.cssSelector("#firstName"))).thenReturn(singletonList(element));
     when(element.getAttribute("value")).thenReturn("wrong value");
 
     assertThatThrownBy(() -> driver.find("#firstName").shouldHave(value("ABC")))
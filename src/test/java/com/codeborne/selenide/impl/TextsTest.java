@@ -19,4 +19,62 @@ class TextsTest implements WithAssertions {
     assertThat(Html.text.reduceSpaces("     Bruce   \n\t   Willis  \n\n\n"))
       .isEqualTo("Bruce Willis");
   }
+
+  @Test
+  void reduceSpacesHandlesNonBreakableSpacesAndLineBreaks() {
+    assertThat(Html.text.reduceSpaces("Bruce\u00a0\u00a0Willis\r\n\fis\u000Bhero"))
+      .isEqualTo("Bruce Willis is hero");
+  }
+
+  @Test
+  void reduceSpacesTrimsNonBreakableSpacesAndControlCharacters() {
+    assertThat(Html.text.reduceSpaces("\u00a0 Bruce Willis\u00a0")).isEqualTo("Bruce Willis");
+    assertThat(Html.text.reduceSpaces("\u0000\u0001 Bruce\u0001Willis \u001F")).isEqualTo("Bruce\u0001Willis");
+    assertThat(Html.text.reduceSpaces("\u00a0\u0001\u00a0")).isEqualTo("");
+  }
+
+  @Test
+  void reduceSpacesReturnsSameStringIfItHasNoRedundantSpaces() {
+    String text = "Bruce Willis";
+    assertThat(Html.text.reduceSpaces(text)).isSameAs(text);
+  }
+
+  @Test
+  void containsIgnoresCaseAndSpaces() {
+    assertThat(Html.text.contains("Hello,\n  Bruce   WILLIS!", "bruce willis")).isTrue();
+    assertThat(Html.text.contains("Hello, Bruce Willis!", " hello,\tBRUCE ")).isTrue();
+    assertThat(Html.text.contains("Hello, Bruce Willis!", "")).isTrue();
+    assertThat(Html.text.contains("Hello, Bruce", "Bruce Willis")).isFalse();
+    assertThat(Html.text.contains("", "Bruce")).isFalse();
+  }
+
+  @Test
+  void ignoresCaseOfNonAsciiCharacters() {
+    assertThat(Html.text.contains("Привет,\u00a0МИР!", "привет, мир")).isTrue();
+    assertThat(Html.text.equals("GRÜSSE AUS KÖLN", "grüsse aus köln")).isTrue();
+    assertThat(Html.text.contains("ΚΑΛΗΜΈΡΑ", "καλημέρα")).isTrue();
+    assertThat(Html.text.contains("Bruce Willis", "BRUCE\u00a0WILLIS")).isTrue();
+  }
+
+  @Test
+  void containsCaseSensitive() {
+    assertThat(Html.text.containsCaseSensitive("Hello,\n  Bruce   Willis!", "Bruce Willis")).isTrue();
+    assertThat(Html.text.containsCaseSensitive("Hello, Bruce Willis!", "bruce willis")).isFalse();
+  }
+
+  @Test
+  void equalsIgnoresCaseAndSpaces() {
+    assertThat(Html.text.equals("  Bruce \n Willis ", "bruce willis")).isTrue();
+    assertThat(Html.text.equals("Bruce Willis", "Bruce")).isFalse();
+    assertThat(Html.text.equalsCaseSensitive("  Bruce \n Willis ", "Bruce Willis")).isTrue();
+    assertThat(Html.text.equalsCaseSensitive("Bruce Willis", "bruce willis")).isFalse();
+  }
+
+  @Test
+  void matchesRegexAnywhereInText() {
+    assertThat(Html.text.matches("Hello,\nBruce   Willis", "Bruce\\s+Willis")).isTrue();
+    assertThat(Html.text.matches("Hello,\nBruce   Willis", "Hello.*Willis")).isTrue();
+    assertThat(Html.text.matches("Hello, Bruce", "Willis")).isFalse();
+    assertThat(Html.text.matches("Hello, Bruce", "^Bruce")).isFalse();
+  }
 }
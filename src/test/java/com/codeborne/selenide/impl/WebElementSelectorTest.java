@@ -0,0 +1,117 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static com.codeborne.selenide.SelectorMode.CSS;
+import static com.codeborne.selenide.SelectorMode.Sizzle;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class WebElementSelectorTest implements WithAssertions {
+  private final SelenideConfig config = new SelenideConfig().selectorMode(Sizzle);
+  private final WebDriver webDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+  private final Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  private final WebElementSelector selector = new WebElementSelector();
+  private final List<WebElement> elements = singletonList(mock(WebElement.class));
+
+  @Test
+  void injectsSizzleWithFirstQuery() {
+    when(executeScript(contains("Sizzle"))).thenReturn(elements);
+
+    assertThat(selector.findElements(driver, webDriver, By.cssSelector("input:first"))).isSameAs(elements);
+    assertThat(selector.findElements(driver, webDriver, By.cssSelector("input:last"))).isSameAs(elements);
+
+    verify((JavascriptExecutor) webDriver).executeScript(contains("oe.noConflict"), eq("input:first"));
+    verify((JavascriptExecutor) webDriver).executeScript(startsWith("if (typeof Sizzle == 'undefined') return null;"),
+        eq("input:last"));
+  }
+
+  @Test
+  void injectsSizzleAgain_afterBrowserOpenedAnotherPage() {
+    when(executeScript(contains("Sizzle"))).thenReturn(elements);
+
+    selector.findElements(driver, webDriver, By.cssSelector("input:first"));
+    ElementCache.invalidate(config, webDriver);
+    selector.findElements(driver, webDriver, By.cssSelector("input:first"));
+
+    verify((JavascriptExecutor) webDriver, times(2)).executeScript(contains("oe.noConflict"), eq("input:first"));
+  }
+
+  @Test
+  void injectsSizzleAgain_ifPageHasBeenChangedOtherwise() {
+    when(executeScript(contains("oe.noConflict"))).thenReturn(elements);
+    when(executeScript(startsWith("if (typeof Sizzle == 'undefined')"))).thenReturn(null);
+
+    selector.findElements(driver, webDriver, By.cssSelector("input:first"));
+    assertThat(selector.findElements(driver, webDriver, By.cssSelector("input:first"))).isSameAs(elements);
+
+    verify((JavascriptExecutor) webDriver, times(2)).executeScript(contains("oe.noConflict"), eq("input:first"));
+  }
+
+  @Test
+  void searchesInsideParentElement() {
+    WebElement parent = mock(WebElement.class);
+    when(((JavascriptExecutor) webDriver).executeScript(anyString(), eq("input:first"), eq(parent))).thenReturn(elements);
+
+    assertThat(selector.findElement(driver, parent, By.cssSelector("input:first"))).isSameAs(elements.get(0));
+  }
+
+  @Test
+  void findsOnlyFirstElementInBrowser_forPlainCssSelectorAndXpath() {
+    config.selectorMode(CSS);
+    WebElement parent = mock(WebElement.class);
+    when(((JavascriptExecutor) webDriver).executeScript(contains(".querySelector(arguments[0])"), eq("#name"), eq(null)))
+      .thenReturn(elements.get(0));
+    when(((JavascriptExecutor) webDriver).executeScript(contains("FIRST_ORDERED_NODE_TYPE"), eq("//div"), eq(parent)))
+      .thenReturn(null);
+
+    assertThat(selector.findFirstElementOrNull(driver, webDriver, By.cssSelector("#name"))).isSameAs(elements.get(0));
+    assertThat(selector.findFirstElementOrNull(driver, parent, By.xpath("//div"))).isNull();
+    verify(webDriver, never()).findElements(any());
+    verify(parent, never()).findElements(any());
+  }
+
+  @Test
+  void findsFirstElementWithFindElements_ifScriptFails() {
+    config.selectorMode(CSS);
+    when(executeScript(anyString())).thenThrow(new JavascriptException("SyntaxError"));
+    when(webDriver.findElements(By.cssSelector("#name"))).thenReturn(elements);
+
+    assertThat(selector.findFirstElementOrNull(driver, webDriver, By.cssSelector("#name"))).isSameAs(elements.get(0));
+  }
+
+  @Test
+  void findsFirstElementWithFindElements_forOtherSelectors() {
+    config.selectorMode(CSS);
+    when(webDriver.findElements(By.name("login"))).thenReturn(elements);
+
+    assertThat(selector.findFirstElementOrNull(driver, webDriver, By.name("login"))).isSameAs(elements.get(0));
+    verify((JavascriptExecutor) webDriver, never()).executeScript(anyString(), any());
+  }
+
+  private Object executeScript(String script) {
+    return ((JavascriptExecutor) webDriver).executeScript(script, any());
+  }
+}
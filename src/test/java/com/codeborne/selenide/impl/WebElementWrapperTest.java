@@ -13,6 +13,10 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.htmlunit.HtmlUnitDriver;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -37,9 +41,27 @@ class WebElementWrapperTest implements WithAssertions {
 
   @Test
   void toStringPrintsTagNameWithAllAttributes() {
+    config.browser("chrome");
+    Map<String, Object> details = new HashMap<>();
+    details.put("tagName", "h2");
+    details.put("attributes", ImmutableMap.of("id", "id1", "class", "class1 class2", "data-binding", "to-name"));
+    details.put("text", "");
+    details.put("selected", false);
+    details.put("displayed", true);
+    when(((JavascriptExecutor) webDriver)
+      .executeScript(anyString(), any()))
+      .thenReturn(singletonList(details));
+
+    assertThat(new WebElementWrapper(driver, element))
+      .hasToString("<h2 class=\"class1 class2\" data-binding=\"to-name\" id=\"id1\"></h2>");
+  }
+
+  @Test
+  void toStringReadsAllAttributesOneByOne_ifBrowserCannotDescribeElement() {
     config.browser("chrome");
     when(((JavascriptExecutor) webDriver)
       .executeScript(anyString(), any()))
+      .thenReturn(null)
       .thenReturn(ImmutableMap.of("id", "id1", "class", "class1 class2", "data-binding", "to-name"));
 
     assertThat(new WebElementWrapper(driver, element))
@@ -0,0 +1,42 @@
+package com.codeborne.selenide.polling;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class ExponentialBackoffTest implements WithAssertions {
+  @Test
+  void doublesIntervalAfterEveryAttempt() {
+    ExponentialBackoff strategy = new ExponentialBackoff(10, 1000);
+    assertThat(strategy.interval(1, 200)).isEqualTo(10);
+    assertThat(strategy.interval(2, 200)).isEqualTo(20);
+    assertThat(strategy.interval(3, 200)).isEqualTo(40);
+    assertThat(strategy.interval(4, 200)).isEqualTo(80);
+  }
+
+  @Test
+  void neverExceedsMaxInterval() {
+    ExponentialBackoff strategy = new ExponentialBackoff(10, 100);
+    assertThat(strategy.interval(4, 200)).isEqualTo(80);
+    assertThat(strategy.interval(5, 200)).isEqualTo(100);
+    assertThat(strategy.interval(Integer.MAX_VALUE, 200)).isEqualTo(100);
+  }
+
+  @Test
+  void initialIntervalShouldBePositive() {
+    assertThatThrownBy(() -> new ExponentialBackoff(0, 100))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Initial interval should be positive, but given: 0");
+  }
+
+  @Test
+  void maxIntervalShouldNotBeLessThanInitialInterval() {
+    assertThatThrownBy(() -> new ExponentialBackoff(100, 10))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Max interval 10 is less than initial interval 100");
+  }
+
+  @Test
+  void testToString() {
+    assertThat(new ExponentialBackoff(10, 100)).hasToString("exponential backoff 10..100 ms");
+  }
+}
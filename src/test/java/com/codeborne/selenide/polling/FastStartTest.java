@@ -0,0 +1,39 @@
+package com.codeborne.selenide.polling;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class FastStartTest implements WithAssertions {
+  @Test
+  void makesFirstAttemptsFast_andThenUsesPollingInterval() {
+    FastStart strategy = new FastStart(2, 10);
+    assertThat(strategy.interval(1, 200)).isEqualTo(10);
+    assertThat(strategy.interval(2, 200)).isEqualTo(10);
+    assertThat(strategy.interval(3, 200)).isEqualTo(200);
+    assertThat(strategy.interval(4, 200)).isEqualTo(200);
+  }
+
+  @Test
+  void fastIntervalIsNeverLongerThanPollingInterval() {
+    assertThat(new FastStart(2, 50).interval(1, 20)).isEqualTo(20);
+  }
+
+  @Test
+  void numberOfFastAttemptsShouldNotBeNegative() {
+    assertThatThrownBy(() -> new FastStart(-1, 10))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Number of fast attempts should not be negative, but given: -1");
+  }
+
+  @Test
+  void fastIntervalShouldNotBeNegative() {
+    assertThatThrownBy(() -> new FastStart(2, -10))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Fast interval should not be negative, but given: -10");
+  }
+
+  @Test
+  void testToString() {
+    assertThat(new FastStart(3, 10)).hasToString("first 3 attempts every 10 ms");
+  }
+}
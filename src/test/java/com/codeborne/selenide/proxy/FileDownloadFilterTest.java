@@ -3,21 +3,37 @@ package com.codeborne.selenide.proxy;
 import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.impl.Downloader;
 import com.codeborne.selenide.impl.DummyRandomizer;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.Attribute;
 import net.lightbody.bmp.util.HttpMessageContents;
 import net.lightbody.bmp.util.HttpMessageInfo;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.littleshoot.proxy.HttpFilters;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
+import static io.netty.buffer.Unpooled.wrappedBuffer;
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
 import static org.apache.commons.io.FileUtils.readFileToByteArray;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -37,7 +53,7 @@ class FileDownloadFilterTest implements WithAssertions {
     when(response.headers()).thenReturn(headers);
 
     when(contents.getContentType()).thenReturn("app/json");
-    when(contents.getTextContents()).thenReturn("my-text");
+    when(contents.getBinaryContents()).thenReturn("my-text".getBytes(UTF_8));
     deleteDirectory(new File("build/downloads/random-text"));
   }
 
@@ -128,4 +144,161 @@ class FileDownloadFilterTest implements WithAssertions {
     assertThat(file.getPath()).endsWith("build/downloads/random-text/report.pdf");
     assertThat(readFileToByteArray(file)).isEqualTo(new byte[]{1, 2, 3, 4, 5});
   }
+
+  @Test
+  void writesDownloadedFileToDiskChunkByChunk() throws IOException {
+    filter.activate();
+    HttpFilters filters = filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://site.com/report"), channel());
+    DefaultHttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+    response.headers().add("content-disposition", "attachement; filename=report.pdf");
+
+    filters.serverToProxyResponse(response);
+    filters.serverToProxyResponse(new DefaultHttpContent(wrappedBuffer(new byte[]{1, 2, 3})));
+    assertThat(filter.getDownloadedFiles()).isEmpty();
+    filters.serverToProxyResponse(new DefaultLastHttpContent(wrappedBuffer(new byte[]{4, 5})));
+
+    assertThat(filter.getDownloadedFiles()).hasSize(1);
+    File file = filter.getDownloadedFiles().get(0);
+    assertThat(file.getPath()).endsWith("build/downloads/random-text/report.pdf");
+    assertThat(readFileToByteArray(file)).isEqualTo(new byte[]{1, 2, 3, 4, 5});
+    assertThat(filter.getResponses()).matches("Intercepted 1 responses.\n" +
+      "  http://site.com/report -> 200 \"OK\" \\{content-disposition=attachement; filename=report.pdf} null  \\(5 bytes\\) in \\d+ ms\n");
+  }
+
+  @Test
+  void decompressesEncodedFileWhileWritingItToDisk() throws IOException {
+    byte[] csv = "id,name\n1,report\n2,summary\n".getBytes(UTF_8);
+    byte[] gzipped = gzip(csv);
+    filter.activate();
+    HttpFilters filters = filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://site.com/export"), channel());
+    DefaultHttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+    response.headers().add("content-disposition", "attachement; filename=export.csv");
+    response.headers().add("content-encoding", "gzip");
+
+    filters.serverToProxyResponse(response);
+    filters.serverToProxyResponse(new DefaultHttpContent(wrappedBuffer(gzipped, 0, 10)));
+    filters.serverToProxyResponse(new DefaultLastHttpContent(wrappedBuffer(gzipped, 10, gzipped.length - 10)));
+
+    assertThat(filter.getDownloadedFiles()).hasSize(1);
+    assertThat(readFileToByteArray(filter.getDownloadedFiles().get(0))).isEqualTo(csv);
+  }
+
+  private byte[] gzip(byte[] content) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(content);
+    }
+    return out.toByteArray();
+  }
+
+  @Test
+  void countsSizeOfStreamedResponsesWithoutFile() {
+    filter.activate();
+    HttpFilters filters = filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://site.com/page"), channel());
+
+    filters.serverToProxyResponse(new DefaultHttpResponse(HTTP_1_1, OK));
+    filters.serverToProxyResponse(new DefaultLastHttpContent(wrappedBuffer("my-text".getBytes())));
+
+    assertThat(filter.getDownloadedFiles()).isEmpty();
+    assertThat(filter.getResponses())
+      .matches("Intercepted 1 responses.\n  http://site.com/page -> 200 \"OK\" \\{} null  \\(7 bytes\\) in \\d+ ms\n");
+  }
+
+  @Test
+  void recordsContentOfStreamedResponses_ifRequested() {
+    filter.activate();
+    filter.captureResponseContent(10, "text/");
+    HttpFilters filters = filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://site.com/page"), channel());
+    DefaultHttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+    response.headers().add("content-type", "text/plain");
+
+    filters.serverToProxyResponse(response);
+    filters.serverToProxyResponse(new DefaultHttpContent(wrappedBuffer("my-".getBytes(UTF_8))));
+    filters.serverToProxyResponse(new DefaultLastHttpContent(wrappedBuffer("text".getBytes(UTF_8))));
+
+    assertThat(filter.getResponses()).endsWith(" ms\n  my-text\n");
+  }
+
+  @Test
+  void doesNotRecordContentOfLargeResponses() {
+    filter.activate();
+    filter.captureResponseContent(6, "app/json");
+    mockStatusCode(200, "200=success");
+
+    filter.filterResponse(response, contents, messageInfo);
+
+    assertThat(filter.getResponses()).endsWith("(7 bytes)\n");
+  }
+
+  @Test
+  void recordsContentOfResponses_ifRequested() {
+    filter.activate();
+    filter.captureResponseContent(7, "app/");
+    mockStatusCode(200, "200=success");
+
+    filter.filterResponse(response, contents, messageInfo);
+
+    assertThat(filter.getResponses()).endsWith("(7 bytes)\n  my-text\n");
+  }
+
+  @Test
+  void keepsOnlyLastResponses() {
+    filter.activate();
+    mockStatusCode(200, "200=success");
+
+    for (int i = 0; i < FileDownloadFilter.MAX_RESPONSES + 5; i++) {
+      when(messageInfo.getUrl()).thenReturn("http://site.com/" + i);
+      filter.filterResponse(response, contents, messageInfo);
+    }
+
+    assertThat(filter.getResponses())
+      .startsWith("Intercepted 205 responses. Only the last 200 are shown.\n  http://site.com/5 -> 200")
+      .doesNotContain("http://site.com/4 ")
+      .contains("http://site.com/204 ");
+  }
+
+  @Test
+  void awaitDownloadedFiles_returnsAsSoonAsFileIsDownloaded() throws InterruptedException {
+    filter.activate();
+    HttpFilters filters = filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://site.com/report"), channel());
+    DefaultHttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+    response.headers().add("content-disposition", "attachement; filename=report.pdf");
+    Thread proxyThread = new Thread(() -> {
+      filters.serverToProxyResponse(response);
+      filters.serverToProxyResponse(new DefaultLastHttpContent(wrappedBuffer(new byte[]{1, 2, 3})));
+    });
+
+    long start = System.currentTimeMillis();
+    proxyThread.start();
+    List<File> files = filter.awaitDownloadedFiles(1, file -> file.getName().endsWith(".pdf"), 10_000);
+
+    assertThat(files).hasSize(1);
+    assertThat(files.get(0).getName()).isEqualTo("report.pdf");
+    assertThat(System.currentTimeMillis() - start).isLessThan(5_000);
+    proxyThread.join();
+  }
+
+  @Test
+  void awaitDownloadedFiles_returnsFoundFilesAfterTimeout() {
+    filter.activate();
+    mockStatusCode(200, "200=success");
+    mockHeaders().add("content-disposition", "attachement; filename=report.pdf");
+    filter.filterResponse(response, contents, messageInfo);
+
+    assertThat(filter.awaitDownloadedFiles(2, file -> true, 10)).hasSize(1);
+    assertThat(filter.awaitDownloadedFiles(1, file -> file.getName().endsWith(".csv"), 10)).isEmpty();
+  }
+
+  @Test
+  void doesNotCaptureStreamedResponsesIfNotActivated() {
+    filter.deactivate();
+    assertThat(filter.filterRequest(new DefaultHttpRequest(HTTP_1_1, GET, "http://site.com/page"), channel())).isNull();
+  }
+
+  @SuppressWarnings("unchecked")
+  private ChannelHandlerContext channel() {
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    when(ctx.attr(any())).thenReturn(mock(Attribute.class));
+    return ctx;
+  }
 }
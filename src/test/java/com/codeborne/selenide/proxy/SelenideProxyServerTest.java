@@ -29,6 +29,8 @@ class SelenideProxyServerTest implements WithAssertions {
 
     FileDownloadFilter filter = proxyServer.responseFilter("download");
     assertThat(filter.getDownloadedFiles()).hasSize(0);
+    verify(bmp).addLastHttpFilterFactory(filter);
+    verify(bmp, never()).addResponseFilter(filter);
   }
 
   @Test
@@ -9,9 +9,11 @@ import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.chrome.ChromeOptions;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
 import static com.codeborne.selenide.webdriver.SeleniumCapabilitiesHelper.getBrowserLaunchArgs;
 import static com.codeborne.selenide.webdriver.SeleniumCapabilitiesHelper.getBrowserLaunchPrefs;
 import static org.mockito.Mockito.mock;
@@ -23,6 +25,7 @@ class ChromeDriverFactoryTest implements WithAssertions {
 
   private Proxy proxy = mock(Proxy.class);
   private SelenideConfig config = new SelenideConfig();
+  private File downloadsFolder = new File("build/my-downloads/browser-1");
 
   @AfterEach
   void tearDown() {
@@ -34,7 +37,7 @@ class ChromeDriverFactoryTest implements WithAssertions {
   void transferChromeOptionArgumentsFromSystemPropsToDriver() {
     System.setProperty(CHROME_OPTIONS_ARGS, "abdd,--abcd,\"snc,snc\",xcvcd=123,\"abc emd\"");
 
-    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy);
+    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy, downloadsFolder);
     List<String> optionArguments = getBrowserLaunchArgs(ChromeOptions.CAPABILITY, chromeOptions);
 
     assertThat(optionArguments)
@@ -46,7 +49,7 @@ class ChromeDriverFactoryTest implements WithAssertions {
     System.setProperty(CHROME_OPTIONS_PREFS, "key1=stringval,key2=1,key3=false,key4=true," +
       "\"key5=abc,555\",key6=\"555 abc\"");
 
-    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy);
+    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy, downloadsFolder);
     Map<String, Object> prefsMap = getBrowserLaunchPrefs(ChromeOptions.CAPABILITY, chromeOptions);
 
     assertThat(prefsMap)
@@ -62,7 +65,7 @@ class ChromeDriverFactoryTest implements WithAssertions {
   void transferChromeOptionPreferencesFromSystemPropsToDriverNoAssignmentStatement() {
     System.setProperty(CHROME_OPTIONS_PREFS, "key1=1,key2");
 
-    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy);
+    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy, downloadsFolder);
     Map<String, Object> prefsMap = getBrowserLaunchPrefs(ChromeOptions.CAPABILITY, chromeOptions);
 
     assertThat(prefsMap).hasSize(1);
@@ -74,7 +77,7 @@ class ChromeDriverFactoryTest implements WithAssertions {
   void transferChromeOptionPreferencesFromSystemPropsToDriverTwoAssignmentStatement() {
     System.setProperty(CHROME_OPTIONS_PREFS, "key1=1,key2=1=false");
 
-    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy);
+    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy, downloadsFolder);
     Map<String, Object> prefsMap = getBrowserLaunchPrefs(ChromeOptions.CAPABILITY, chromeOptions);
 
     assertThat(prefsMap).hasSize(1);
@@ -85,7 +88,7 @@ class ChromeDriverFactoryTest implements WithAssertions {
   void browserBinaryCanBeSet() {
     config.browserBinary("c:/browser.exe");
 
-    Capabilities caps = new ChromeDriverFactory().createChromeOptions(config, proxy);
+    Capabilities caps = new ChromeDriverFactory().createChromeOptions(config, proxy, downloadsFolder);
     Map options = (Map) caps.asMap().get(ChromeOptions.CAPABILITY);
 
     assertThat(options.get("binary")).isEqualTo("c:/browser.exe");
@@ -95,9 +98,30 @@ class ChromeDriverFactoryTest implements WithAssertions {
   void headlessCanBeSet() {
     config.headless(true);
 
-    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy);
+    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy, downloadsFolder);
     List<String> optionArguments = getBrowserLaunchArgs(ChromeOptions.CAPABILITY, chromeOptions);
 
     assertThat(optionArguments).contains("--headless");
   }
+
+  @Test
+  void savesDownloadedFilesToBrowserDownloadsFolder_inFolderMode() {
+    config.fileDownload(FOLDER).downloadsFolder("build/my-downloads");
+    System.setProperty(CHROME_OPTIONS_PREFS, "key1=1");
+
+    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy, downloadsFolder);
+    Map<String, Object> prefsMap = getBrowserLaunchPrefs(ChromeOptions.CAPABILITY, chromeOptions);
+
+    assertThat(prefsMap)
+      .containsEntry("download.default_directory", new File("build/my-downloads/browser-1").getAbsolutePath())
+      .containsEntry("download.prompt_for_download", false)
+      .containsEntry("key1", 1);
+  }
+
+  @Test
+  void doesNotSetPreferences_byDefault() {
+    ChromeOptions chromeOptions = new ChromeDriverFactory().createChromeOptions(config, proxy, downloadsFolder);
+
+    assertThat(getBrowserLaunchPrefs(ChromeOptions.CAPABILITY, chromeOptions)).isNull();
+  }
 }
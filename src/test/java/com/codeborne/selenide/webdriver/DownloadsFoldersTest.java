@@ -0,0 +1,64 @@
+package com.codeborne.selenide.webdriver;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.impl.DummyRandomizer;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import java.io.File;
+
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
+import static com.codeborne.selenide.FileDownloadMode.HTTPGET;
+import static com.codeborne.selenide.FileDownloadMode.PROXY;
+import static org.mockito.Mockito.mock;
+
+class DownloadsFoldersTest implements WithAssertions {
+  private final SelenideConfig config = new SelenideConfig().fileDownload(FOLDER).downloadsFolder("build/my-downloads");
+  private final DownloadsFolders downloadsFolders = new DownloadsFolders(new DummyRandomizer("browser-1"));
+
+  @Test
+  void createsSubfolderOfDownloadsFolderForEveryBrowser() {
+    assertThat(downloadsFolders.newFolder(config))
+      .isEqualTo(new File("build/my-downloads/browser-1").getAbsoluteFile());
+    assertThat(new DownloadsFolders().newFolder(config))
+      .isNotEqualTo(new DownloadsFolders().newFolder(config));
+  }
+
+  @Test
+  void doesNotCreateFolder_inOtherModes() {
+    WebDriver browser = mock(WebDriver.class);
+    assertThat(downloadsFolders.newFolder(config.fileDownload(HTTPGET))).isNull();
+    assertThat(downloadsFolders.newFolder(config.fileDownload(PROXY))).isNull();
+
+    downloadsFolders.register(browser, null);
+    assertThat(downloadsFolders.folder(config, browser)).isEqualTo(new File("build/my-downloads").getAbsoluteFile());
+  }
+
+  @Test
+  void returnsFolderOfGivenBrowser() {
+    WebDriver browser1 = mock(WebDriver.class);
+    WebDriver browser2 = mock(WebDriver.class);
+    downloadsFolders.register(browser1, new File("build/my-downloads/browser-1"));
+    downloadsFolders.register(browser2, new File("build/my-downloads/browser-2"));
+
+    assertThat(downloadsFolders.folder(config, browser1)).isEqualTo(new File("build/my-downloads/browser-1"));
+    assertThat(downloadsFolders.folder(config, browser2)).isEqualTo(new File("build/my-downloads/browser-2"));
+  }
+
+  @Test
+  void findsFolderOfBrowserWrappedWithListeners() {
+    WebDriver browser = mock(WebDriver.class);
+    downloadsFolders.register(browser, new File("build/my-downloads/browser-1"));
+
+    assertThat(downloadsFolders.folder(config, new EventFiringWebDriver(browser)))
+      .isEqualTo(new File("build/my-downloads/browser-1"));
+  }
+
+  @Test
+  void returnsDownloadsFolder_ifBrowserWasNotStartedBySelenide() {
+    assertThat(downloadsFolders.folder(config, mock(WebDriver.class)))
+      .isEqualTo(new File("build/my-downloads").getAbsoluteFile());
+  }
+}
@@ -9,10 +9,12 @@ import org.openqa.selenium.Proxy;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.firefox.FirefoxProfile;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
+import static com.codeborne.selenide.FileDownloadMode.FOLDER;
 import static com.codeborne.selenide.webdriver.SeleniumCapabilitiesHelper.getBrowserLaunchArgs;
 import static org.mockito.Mockito.mock;
 
@@ -20,6 +22,7 @@ class FirefoxDriverFactoryTest implements WithAssertions {
   private Proxy proxy = mock(Proxy.class);
   private FirefoxDriverFactory driverFactory = new FirefoxDriverFactory();
   private SelenideConfig config = new SelenideConfig();
+  private File downloadsFolder = new File("build/my-downloads/browser-1");
 
   @AfterEach
   void tearDown() {
@@ -54,7 +57,7 @@ class FirefoxDriverFactoryTest implements WithAssertions {
     config.browserCapabilities(new DesiredCapabilities(firefoxOptions));
     System.setProperty("firefoxprofile.some.cap", "25");
 
-    FirefoxProfile profile = driverFactory.createFirefoxOptions(config, proxy).getProfile();
+    FirefoxProfile profile = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder).getProfile();
 
     assertThat(profile.getIntegerPreference("some.cap", 0)).isEqualTo(25);
     assertThat(profile.getIntegerPreference("some.conf.cap", 0)).isEqualTo(42);
@@ -63,28 +66,28 @@ class FirefoxDriverFactoryTest implements WithAssertions {
   @Test
   void transferIntegerFirefoxProfilePreferencesFromSystemPropsToDriver() {
     System.setProperty("firefoxprofile.some.cap", "25");
-    FirefoxProfile profile = driverFactory.createFirefoxOptions(config, proxy).getProfile();
+    FirefoxProfile profile = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder).getProfile();
     assertThat(profile.getIntegerPreference("some.cap", 0)).isEqualTo(25);
   }
 
   @Test
   void transferBooleanFirefoxProfilePreferencesFromSystemPropsToDriver() {
     System.setProperty("firefoxprofile.some.cap", "false");
-    FirefoxProfile profile = driverFactory.createFirefoxOptions(config, proxy).getProfile();
+    FirefoxProfile profile = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder).getProfile();
     assertThat(profile.getBooleanPreference("some.cap", true)).isEqualTo(false);
   }
 
   @Test
   void transferStringFirefoxProfilePreferencesFromSystemPropsToDriver() {
     System.setProperty("firefoxprofile.some.cap", "abdd");
-    FirefoxProfile profile = driverFactory.createFirefoxOptions(config, proxy).getProfile();
+    FirefoxProfile profile = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder).getProfile();
     assertThat(profile.getStringPreference("some.cap", "sjlj")).isEqualTo("abdd");
   }
 
   @Test
   void browserBinaryCanBeSet() {
     config.browserBinary("c:/browser.exe");
-    Capabilities caps = driverFactory.createFirefoxOptions(config, proxy);
+    Capabilities caps = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder);
     Map options = (Map) caps.asMap().get(FirefoxOptions.FIREFOX_OPTIONS);
     assertThat(options.get("binary")).isEqualTo("c:/browser.exe");
   }
@@ -92,15 +95,32 @@ class FirefoxDriverFactoryTest implements WithAssertions {
   @Test
   void headlessCanBeSet() {
     config.headless(true);
-    FirefoxOptions options = driverFactory.createFirefoxOptions(config, proxy);
+    FirefoxOptions options = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder);
     List<String> optionArguments = getBrowserLaunchArgs(FirefoxOptions.FIREFOX_OPTIONS, options);
     assertThat(optionArguments).contains("-headless");
   }
 
   @Test
   void enablesProxyForLocalAddresses() {
-    FirefoxOptions options = driverFactory.createFirefoxOptions(config, proxy);
+    FirefoxOptions options = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder);
     FirefoxProfile firefoxProfile = (FirefoxProfile) options.asMap().get("firefox_profile");
     assertThat(firefoxProfile.getStringPreference("network.proxy.no_proxies_on", "localhost")).isEqualTo("");
   }
+
+  @Test
+  void savesDownloadedFilesToBrowserDownloadsFolder_inFolderMode() {
+    config.fileDownload(FOLDER).downloadsFolder("build/my-downloads");
+    FirefoxOptions options = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder);
+    FirefoxProfile firefoxProfile = (FirefoxProfile) options.asMap().get("firefox_profile");
+    assertThat(firefoxProfile.getStringPreference("browser.download.dir", null))
+      .isEqualTo(new File("build/my-downloads/browser-1").getAbsolutePath());
+    assertThat(firefoxProfile.getIntegerPreference("browser.download.folderList", 0)).isEqualTo(2);
+  }
+
+  @Test
+  void doesNotChangeDownloadsFolder_inOtherModes() {
+    FirefoxOptions options = driverFactory.createFirefoxOptions(config, proxy, downloadsFolder);
+    FirefoxProfile firefoxProfile = (FirefoxProfile) options.asMap().get("firefox_profile");
+    assertThat(firefoxProfile.getStringPreference("browser.download.dir", null)).isNull();
+  }
 }
@@ -57,6 +57,17 @@ public class Configuration {
    */
   public static long pollingInterval = defaults.pollingInterval();
 
+  /**
+   * Defines how long Selenide waits between attempts when checking conditions.
+   * By default it always waits {@link #pollingInterval} milliseconds.
+   * <br>
+   * Sample: {@code Configuration.pollingStrategy = PollingStrategy.fastStart(5, 20);}
+   * <br>
+   * Default value: {@link PollingStrategy#constant()}
+   * @see PollingStrategy
+   */
+  public static PollingStrategy pollingStrategy = defaults.pollingStrategy();
+
   /**
    * If holdBrowserOpen is true, browser window stays open after running tests. It may be useful for debugging.
    * Can be configured either programmatically or by system property "-Dselenide.holdBrowserOpen=true".
@@ -76,6 +87,27 @@ public class Configuration {
    */
   public static boolean reopenBrowserOnFail = defaults.reopenBrowserOnFail();
 
+  /**
+   * Number of browsers kept started and ready for tests.
+   * If greater than 0, Selenide starts that many browsers in background when the first browser is needed,
+   * and a closed browser is cleaned up (cookies, local storage, extra windows) and returned to the pool instead of quitting.
+   * Browsers with custom listeners or custom proxy are not pooled.
+   * Can be configured either programmatically or by system property "-Dselenide.driverPoolSize=4".
+   * <br>
+   * Default value: 0 (browsers are not pooled)
+   */
+  public static int driverPoolSize = defaults.driverPoolSize();
+
+  /**
+   * Defines if browser is closed in a background thread.
+   * If true, test thread doesn't wait until browser is closed (which can take a few seconds).
+   * Browsers being closed are awaited when JVM shuts down.
+   * Can be configured either programmatically or by system property "-Dselenide.closeBrowserInBackground=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean closeBrowserInBackground = defaults.closeBrowserInBackground();
+
   /**
    * Which browser to use.
    * Can be configured either programmatically or by system property "-Dselenide.browser=ie".
@@ -163,6 +195,54 @@ public class Configuration {
    */
   public static boolean clickViaJs = defaults.clickViaJs();
 
+  /**
+   * If set to true, collection conditions like {@code texts}, {@code exactTexts} and {@code textsInAnyOrder}
+   * read texts of all collection elements with a single JavaScript call instead of calling
+   * {@code getText()} for every element (which is slow via network to Selenium Grid).
+   * <br>
+   * NB! Texts are taken from "innerText" of visible elements, which may slightly differ from
+   * Selenium {@code getText()} in some browsers.
+   * Can be configured either programmatically or by system property "-Dselenide.textsViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean textsViaJs = defaults.textsViaJs();
+
+  /**
+   * If set to true, built-in conditions like {@code visible}, {@code text}, {@code attribute}, {@code cssClass}
+   * (and their combinations) are checked with a single JavaScript call instead of several WebDriver calls per element.
+   * It applies to {@code should*} methods, {@code filterBy}, {@code excludeWith} and {@code findBy}.
+   * Conditions which cannot be checked in browser are checked in Java as usual.
+   * <br>
+   * NB! JavaScript checks may slightly differ from Selenium in some browsers (e.g. visibility of elements, texts).
+   * Can be configured either programmatically or by system property "-Dselenide.conditionsViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean conditionsViaJs = defaults.conditionsViaJs();
+
+  /**
+   * If set to true, {@code should*} and {@code waitUntil}/{@code waitWhile} methods don't poll the browser every
+   * {@code pollingInterval} ms. Instead, they wait in browser (with MutationObserver) until the element matches the condition.
+   * It works for conditions which can be checked in browser (see {@link #conditionsViaJs}), other conditions are polled as usual.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.waitViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean waitViaJs = defaults.waitViaJs();
+
+  /**
+   * If set to true, nested elements like {@code $("#grid").$(".row", 3).$("td.price")} are found with a single
+   * JavaScript call instead of searching every parent one by one. It works for CSS and XPath selectors (except Sizzle mode).
+   * If any of parents is not found, elements are searched one by one as usual - to report the missing parent.
+   * <br>
+   * Can be configured either programmatically or by system property "-Dselenide.nestedSelectorsViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean nestedSelectorsViaJs = defaults.nestedSelectorsViaJs();
+
   /**
    * Defines if Selenide takes screenshots on failing tests.
    * Can be configured either programmatically or by system property "-Dselenide.screenshots=false".
@@ -179,6 +259,25 @@ public class Configuration {
    */
   public static boolean savePageSource = defaults.savePageSource();
 
+  /**
+   * If set to true, error messages of failed checks (element description, actual texts etc.) are built
+   * immediately when the check fails. By default they are built only when the error is reported, and errors
+   * of intermediate checks (which are retried until timeout) never ask the browser for these details.
+   * Can be configured either programmatically or by system property "-Dselenide.eagerErrorMessages=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean eagerErrorMessages = defaults.eagerErrorMessages();
+
+  /**
+   * Defines if Selenide writes screenshots and page sources to disk in a background thread.
+   * Browser is still asked for screenshot/page source in the test thread; only encoding and disk writes are done asynchronously.
+   * Can be configured either programmatically or by system property "-Dselenide.asyncScreenshots=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean asyncScreenshots = defaults.asyncScreenshots();
+
   /**
    * Folder to store screenshots to.
    * Can be configured either programmatically or by system property "-Dselenide.reportsFolder=test-result/reports".
@@ -187,6 +286,15 @@ public class Configuration {
    */
   public static String reportsFolder = defaults.reportsFolder();
 
+  /**
+   * Folder where browser saves downloaded files (used only if fileDownload == FOLDER).
+   * Downloaded files are then moved to reportsFolder.
+   * Can be configured either programmatically or by system property "-Dselenide.downloadsFolder=/tmp/downloads"
+   * <br>
+   * Default value: "build/downloads"
+   */
+  public static String downloadsFolder = defaults.downloadsFolder();
+
   /**
    * Optional: URL of CI server where reports are published to.
    * In case of Jenkins, it is "BUILD_URL/artifact" by default.
@@ -234,6 +342,19 @@ public class Configuration {
    */
   public static SelectorMode selectorMode = defaults.selectorMode();
 
+  /**
+   * If set to true, Selenide remembers web elements found by $ (and nested $.$) and reuses them for following commands
+   * instead of searching them again before every command. It reduces the number of WebDriver calls,
+   * which is especially noticeable when running tests via Selenium Grid.
+   * <br>
+   * Cached element is searched again if it has become stale, or if browser has opened another page
+   * (via {@code open}, {@code back}, {@code forward}, {@code refresh}) or switched to another frame/window.
+   * Can be configured either programmatically or by system property "-Dselenide.cacheElements=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean cacheElements = defaults.cacheElements();
+
   /**
    * Assertion mode - STRICT or SOFT Asserts
    * Default value: STRICT
@@ -250,6 +371,14 @@ public class Configuration {
    */
   public static FileDownloadMode fileDownload = defaults.fileDownload();
 
+  /**
+   * Maximum number of files downloaded at the same time by {@link SelenideDriver#download(java.util.List, long)}.
+   * Can be configured either programmatically or by system property "-Dselenide.parallelDownloads=8"
+   * <br>
+   * Default: 4
+   */
+  public static int parallelDownloads = defaults.parallelDownloads();
+
   /**
    * If Selenide should run browser through its own proxy server.
    * It allows some additional features which are not possible with plain Selenium.
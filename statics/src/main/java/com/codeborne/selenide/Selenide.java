@@ -838,4 +838,35 @@ public class Selenide {
   public static File download(String url, long timeoutMs) throws IOException {
     return getSelenideDriver().download(url, timeoutMs);
   }
+
+  /**
+   * Download files using direct links (e.g. all "href" attributes of some links).
+   * Files are downloaded in the same way as {@link #download(String)},
+   * up to {@link Configuration#parallelDownloads} files at the same time.
+   *
+   * Download fails if default timeout (Configuration.timeout) is exceeded for any of files
+   *
+   * @param urls either relative or absolute urls
+   * @return downloaded files (in the same order as urls) in folder `Configuration.reportsFolder`
+   * @throws IOException if failed to download any of files
+   */
+  public static List<File> download(List<String> urls) throws IOException {
+    return getSelenideDriver().download(urls);
+  }
+
+  /**
+   * Download files using direct links (e.g. all "href" attributes of some links).
+   * Files are downloaded in the same way as {@link #download(String)},
+   * up to {@link Configuration#parallelDownloads} files at the same time.
+   *
+   * Download fails if specified timeout is exceeded for any of files
+   *
+   * @param urls either relative or absolute urls
+   * @param timeoutMs specific timeout in ms
+   * @return downloaded files (in the same order as urls) in folder `Configuration.reportsFolder`
+   * @throws IOException if failed to download any of files
+   */
+  public static List<File> download(List<String> urls, long timeoutMs) throws IOException {
+    return getSelenideDriver().download(urls, timeoutMs);
+  }
 }
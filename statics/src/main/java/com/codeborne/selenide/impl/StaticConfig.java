@@ -4,6 +4,7 @@ import com.codeborne.selenide.AssertionMode;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.FileDownloadMode;
+import com.codeborne.selenide.PollingStrategy;
 import com.codeborne.selenide.SelectorMode;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
@@ -31,6 +32,11 @@ public class StaticConfig implements Config {
     return Configuration.pollingInterval;
   }
 
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return Configuration.pollingStrategy;
+  }
+
   @Override
   public boolean holdBrowserOpen() {
     return Configuration.holdBrowserOpen;
@@ -41,11 +47,41 @@ public class StaticConfig implements Config {
     return Configuration.reopenBrowserOnFail;
   }
 
+  @Override
+  public int driverPoolSize() {
+    return Configuration.driverPoolSize;
+  }
+
+  @Override
+  public boolean closeBrowserInBackground() {
+    return Configuration.closeBrowserInBackground;
+  }
+
   @Override
   public boolean clickViaJs() {
     return Configuration.clickViaJs;
   }
 
+  @Override
+  public boolean textsViaJs() {
+    return Configuration.textsViaJs;
+  }
+
+  @Override
+  public boolean conditionsViaJs() {
+    return Configuration.conditionsViaJs;
+  }
+
+  @Override
+  public boolean waitViaJs() {
+    return Configuration.waitViaJs;
+  }
+
+  @Override
+  public boolean nestedSelectorsViaJs() {
+    return Configuration.nestedSelectorsViaJs;
+  }
+
   @Override
   public boolean screenshots() {
     return Configuration.screenshots;
@@ -56,11 +92,26 @@ public class StaticConfig implements Config {
     return Configuration.savePageSource;
   }
 
+  @Override
+  public boolean eagerErrorMessages() {
+    return Configuration.eagerErrorMessages;
+  }
+
+  @Override
+  public boolean asyncScreenshots() {
+    return Configuration.asyncScreenshots;
+  }
+
   @Override
   public String reportsFolder() {
     return Configuration.reportsFolder;
   }
 
+  @Override
+  public String downloadsFolder() {
+    return Configuration.downloadsFolder;
+  }
+
   @Override
   public String reportsUrl() {
     return Configuration.reportsUrl;
@@ -81,6 +132,11 @@ public class StaticConfig implements Config {
     return Configuration.selectorMode;
   }
 
+  @Override
+  public boolean cacheElements() {
+    return Configuration.cacheElements;
+  }
+
   @Override
   public AssertionMode assertionMode() {
     return Configuration.assertionMode;
@@ -91,6 +147,11 @@ public class StaticConfig implements Config {
     return Configuration.fileDownload;
   }
 
+  @Override
+  public int parallelDownloads() {
+    return Configuration.parallelDownloads;
+  }
+
   @Override
   public boolean proxyEnabled() {
     return Configuration.proxyEnabled;